@@ -41,7 +41,7 @@ let testData = {
 
 // Setup: 테스트 데이터 생성
 export function setup() {
-    const setupRes = http.post(`${BASE_URL}/api/test/setup?seatCount=${SEAT_COUNT}`);
+    const setupRes = http.post(`${BASE_URL}/api/admin/test/setup?seatCount=${SEAT_COUNT}`);
 
     if (setupRes.status !== 200) {
         console.error('Setup failed:', setupRes.body);
@@ -154,6 +154,6 @@ export default function (data) {
 
 // Teardown: 정리
 export function teardown(data) {
-    const cleanupRes = http.del(`${BASE_URL}/api/test/cleanup`);
+    const cleanupRes = http.del(`${BASE_URL}/api/admin/test/cleanup`);
     console.log('Cleanup:', cleanupRes.status === 200 ? 'success' : 'failed');
 }
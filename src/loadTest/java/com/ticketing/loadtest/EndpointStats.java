@@ -0,0 +1,55 @@
+package com.ticketing.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 엔드포인트별 지연 시간 히스토그램(μs)과 오류 분류.
+ */
+public class EndpointStats {
+
+    private final Histogram latency = new ConcurrentHistogram(TimeUnit.MINUTES.toMicros(1), 3);
+    private final LongAdder requests = new LongAdder();
+    private final Map<String, LongAdder> errors = new ConcurrentHashMap<>();
+
+    public void record(long startNanos, int status) {
+        long micros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startNanos);
+        latency.recordValue(Math.min(micros, latency.getHighestTrackableValue()));
+        requests.increment();
+        if (status >= 400) {
+            error("HTTP " + status);
+        }
+    }
+
+    public void error(String reason) {
+        errors.computeIfAbsent(reason, key -> new LongAdder()).increment();
+    }
+
+    public Map<String, Object> summary(double elapsedSeconds) {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("requests", requests.sum());
+        summary.put("throughput", requests.sum() / elapsedSeconds);
+        summary.put("p50Ms", percentile(50));
+        summary.put("p90Ms", percentile(90));
+        summary.put("p95Ms", percentile(95));
+        summary.put("p99Ms", percentile(99));
+        summary.put("p999Ms", percentile(99.9));
+        summary.put("maxMs", latency.getMaxValue() / 1000.0);
+
+        Map<String, Long> errorCounts = new TreeMap<>();
+        errors.forEach((reason, count) -> errorCounts.put(reason, count.sum()));
+        summary.put("errors", errorCounts);
+        return summary;
+    }
+
+    private double percentile(double p) {
+        return latency.getValueAtPercentile(p) / 1000.0;
+    }
+}
@@ -0,0 +1,43 @@
+package com.ticketing.loadtest;
+
+import java.time.Duration;
+
+/**
+ * 부하 테스트 설정. Gradle에서 -PloadTest.users=500 형태로 전달한다.
+ *
+ * @param baseUrl     이미 떠 있는 서버 주소. 비어 있으면 앱을 프로세스 안에서 직접 띄움
+ * @param standIns    앱을 직접 띄울 때 사용할 저장소 (testcontainers | local)
+ * @param users       동시 가상 사용자 수 (가상 스레드 1개 = 사용자 1명)
+ * @param seats       생성할 좌석 수
+ * @param pollInterval 대기 상태 조회 간격 (서버 응답에 권장 간격이 없을 때)
+ * @param maxPolls    입장까지 최대 조회 횟수
+ * @param reserveAttempts 좌석 충돌 시 다른 좌석으로 재시도하는 횟수
+ */
+public record LoadTestConfig(
+        String baseUrl,
+        String standIns,
+        int users,
+        int seats,
+        Duration pollInterval,
+        int maxPolls,
+        int reserveAttempts,
+        String output
+) {
+
+    public static LoadTestConfig fromSystemProperties() {
+        return new LoadTestConfig(
+                System.getProperty("loadTest.baseUrl", ""),
+                System.getProperty("loadTest.standIns", "testcontainers"),
+                Integer.getInteger("loadTest.users", 500),
+                Integer.getInteger("loadTest.seats", 100),
+                Duration.ofMillis(Integer.getInteger("loadTest.pollIntervalMs", 1000)),
+                Integer.getInteger("loadTest.maxPolls", 300),
+                Integer.getInteger("loadTest.reserveAttempts", 3),
+                System.getProperty("loadTest.output", "build/reports/load-test/result.json")
+        );
+    }
+
+    public boolean embedded() {
+        return baseUrl.isBlank();
+    }
+}
@@ -0,0 +1,48 @@
+package com.ticketing.loadtest;
+
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 가상 사용자 결과 집계 + Overselling 검증용 예매 좌석 목록.
+ */
+public class LoadTestResult {
+
+    private final Map<VirtualUser.Outcome, LongAdder> outcomes = new EnumMap<>(VirtualUser.Outcome.class);
+    private final Set<UUID> reservedSeats = ConcurrentHashMap.newKeySet();
+    private final LongAdder reservations = new LongAdder();
+
+    public LoadTestResult() {
+        for (VirtualUser.Outcome outcome : VirtualUser.Outcome.values()) {
+            outcomes.put(outcome, new LongAdder());
+        }
+    }
+
+    public void record(VirtualUser.Outcome outcome) {
+        outcomes.get(outcome).increment();
+    }
+
+    public void recordSeat(UUID seatId) {
+        reservations.increment();
+        reservedSeats.add(seatId);
+    }
+
+    public Map<String, Long> outcomes() {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        outcomes.forEach((outcome, count) -> counts.put(outcome.name(), count.sum()));
+        return counts;
+    }
+
+    public long reservations() {
+        return reservations.sum();
+    }
+
+    public int distinctSeats() {
+        return reservedSeats.size();
+    }
+}
@@ -0,0 +1,184 @@
+package com.ticketing.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.redis.testcontainers.RedisContainer;
+import com.ticketing.TicketingApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 가상 스레드 기반 부하 테스트 드라이버.
+ * k6 + docker-compose 없이 개발 PC에서 enter → status → token → seats → reserve 흐름을 재현한다.
+ *
+ * <pre>
+ * ./gradlew loadTest                                      # Testcontainers로 Postgres / Redis + 앱 기동
+ * ./gradlew loadTest -PloadTest.standIns=local            # localhost Postgres / Redis + 앱 기동
+ * ./gradlew loadTest -PloadTest.baseUrl=http://localhost  # 이미 떠 있는 서버 대상
+ * </pre>
+ */
+public class LoadTestRunner {
+
+    private static final List<String> ENDPOINTS = List.of("enter", "status", "token", "seats", "reserve");
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+        Deque<AutoCloseable> resources = new ArrayDeque<>();
+        boolean passed;
+
+        try {
+            String baseUrl = config.embedded() ? startEmbedded(config, resources) : config.baseUrl();
+            passed = run(config, baseUrl);
+        } finally {
+            while (!resources.isEmpty()) {
+                resources.pop().close();
+            }
+        }
+
+        System.exit(passed ? 0 : 1);
+    }
+
+    private static boolean run(LoadTestConfig config, String baseUrl) throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper()
+                .findAndRegisterModules()
+                .enable(SerializationFeature.INDENT_OUTPUT);
+        HttpClient client = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+
+        UUID eventId = provisionEvent(client, objectMapper, baseUrl, config.seats());
+
+        Map<String, EndpointStats> stats = new LinkedHashMap<>();
+        ENDPOINTS.forEach(endpoint -> stats.put(endpoint, new EndpointStats()));
+        LoadTestResult result = new LoadTestResult();
+
+        long start = System.nanoTime();
+        try (ExecutorService users = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < config.users(); i++) {
+                users.submit(new VirtualUser(client, objectMapper, config, baseUrl, eventId, stats, result));
+            }
+        }
+        double elapsedSeconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+        // Overselling 검증 - 성공 응답 수 / 서로 다른 좌석 수 / 서버상 RESERVED 좌석 수가 모두 같아야 함
+        long reservedOnServer = countReservedSeats(client, objectMapper, baseUrl, eventId);
+        boolean noOversell = result.reservations() == result.distinctSeats()
+                && result.reservations() == reservedOnServer
+                && reservedOnServer <= config.seats();
+
+        Map<String, Object> endpoints = new LinkedHashMap<>();
+        long totalRequests = 0;
+        for (Map.Entry<String, EndpointStats> entry : stats.entrySet()) {
+            Map<String, Object> summary = entry.getValue().summary(elapsedSeconds);
+            totalRequests += (long) summary.get("requests");
+            endpoints.put(entry.getKey(), summary);
+        }
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("config", config);
+        report.put("eventId", eventId);
+        report.put("elapsedSeconds", elapsedSeconds);
+        report.put("throughput", totalRequests / elapsedSeconds);
+        report.put("outcomes", result.outcomes());
+        report.put("endpoints", endpoints);
+        report.put("oversell", Map.of(
+                "seats", config.seats(),
+                "successfulReservations", result.reservations(),
+                "distinctReservedSeats", result.distinctSeats(),
+                "reservedSeatsOnServer", reservedOnServer,
+                "passed", noOversell
+        ));
+
+        String json = objectMapper.writeValueAsString(report);
+        Path output = Path.of(config.output());
+        Files.createDirectories(output.toAbsolutePath().getParent());
+        Files.writeString(output, json);
+        System.out.println(json);
+
+        return noOversell;
+    }
+
+    private static UUID provisionEvent(HttpClient client, ObjectMapper objectMapper, String baseUrl, int seats)
+            throws Exception {
+        String body = objectMapper.writeValueAsString(Map.of(
+                "name", "load-test",
+                "rows", List.of(Map.of("row", "A", "seatCount", seats))
+        ));
+        HttpResponse<String> response = client.send(
+                HttpRequest.newBuilder(URI.create(baseUrl + "/api/admin/events"))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(body))
+                        .build(),
+                HttpResponse.BodyHandlers.ofString());
+
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("이벤트 생성 실패: " + response.statusCode() + " " + response.body());
+        }
+        return UUID.fromString(objectMapper.readTree(response.body()).path("eventId").asText());
+    }
+
+    private static long countReservedSeats(HttpClient client, ObjectMapper objectMapper, String baseUrl, UUID eventId)
+            throws Exception {
+        HttpResponse<String> response = client.send(
+                HttpRequest.newBuilder(URI.create(baseUrl + "/api/events/" + eventId + "/seats")).GET().build(),
+                HttpResponse.BodyHandlers.ofString());
+
+        long reserved = 0;
+        for (JsonNode seat : objectMapper.readTree(response.body())) {
+            if ("RESERVED".equals(seat.path("status").asText())) {
+                reserved++;
+            }
+        }
+        return reserved;
+    }
+
+    private static String startEmbedded(LoadTestConfig config, Deque<AutoCloseable> resources) {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("server.port", 0);
+        properties.put("spring.jpa.show-sql", false);
+
+        if ("testcontainers".equals(config.standIns())) {
+            PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:17")
+                    .withDatabaseName("ticketing")
+                    .withUsername("ticketing")
+                    .withPassword("ticketing");
+            RedisContainer redis = new RedisContainer("redis:7");
+            postgres.start();
+            resources.push(postgres);
+            redis.start();
+            resources.push(redis);
+
+            properties.put("spring.datasource.url", postgres.getJdbcUrl());
+            properties.put("spring.datasource.username", postgres.getUsername());
+            properties.put("spring.datasource.password", postgres.getPassword());
+            properties.put("spring.data.redis.host", redis.getHost());
+            properties.put("spring.data.redis.port", redis.getMappedPort(6379));
+        }
+
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(TicketingApplication.class)
+                .properties(properties)
+                .run();
+        resources.push(context);
+
+        Integer port = context.getEnvironment().getProperty("local.server.port", Integer.class);
+        return "http://localhost:" + port;
+    }
+}
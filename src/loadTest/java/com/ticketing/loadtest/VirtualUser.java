@@ -0,0 +1,151 @@
+package com.ticketing.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 가상 사용자 1명의 예매 흐름: enter → status(polling) → token → seats → reserve
+ */
+public class VirtualUser implements Runnable {
+
+    public enum Outcome { RESERVED, SOLD_OUT, NOT_ADMITTED, FAILED }
+
+    private final HttpClient client;
+    private final ObjectMapper objectMapper;
+    private final LoadTestConfig config;
+    private final String baseUrl;
+    private final UUID eventId;
+    private final UUID userId = UUID.randomUUID();
+    private final Map<String, EndpointStats> stats;
+    private final LoadTestResult result;
+
+    public VirtualUser(HttpClient client, ObjectMapper objectMapper, LoadTestConfig config, String baseUrl,
+                       UUID eventId, Map<String, EndpointStats> stats, LoadTestResult result) {
+        this.client = client;
+        this.objectMapper = objectMapper;
+        this.config = config;
+        this.baseUrl = baseUrl;
+        this.eventId = eventId;
+        this.stats = stats;
+        this.result = result;
+    }
+
+    @Override
+    public void run() {
+        try {
+            result.record(flow());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            result.record(Outcome.FAILED);
+        } catch (IOException | RuntimeException e) {
+            result.record(Outcome.FAILED);
+        }
+    }
+
+    private Outcome flow() throws IOException, InterruptedException {
+        // 1. 대기열 진입
+        if (call("enter", post("/api/queue/enter?eventId=" + eventId, null)) == null) {
+            return Outcome.FAILED;
+        }
+
+        // 2. 상태 조회 → 3. 토큰 획득
+        boolean admitted = false;
+        for (int poll = 0; poll < config.maxPolls() && !admitted; poll++) {
+            JsonNode status = call("status", get("/api/queue/status?eventId=" + eventId));
+            String value = status != null ? status.path("status").asText() : "";
+
+            if ("READY".equals(value) || "ENTERED".equals(value)) {
+                JsonNode token = call("token", post("/api/queue/token?eventId=" + eventId, null));
+                admitted = token != null && token.path("success").asBoolean();
+            }
+            if (!admitted) {
+                // 서버가 권장한 간격을 따름 (예상 대기 시간이 길면 간격이 늘어남)
+                long pollIntervalMs = status != null ? status.path("pollIntervalMs").asLong(0) : 0;
+                Thread.sleep(pollIntervalMs > 0 ? Duration.ofMillis(pollIntervalMs) : config.pollInterval());
+            }
+        }
+        if (!admitted) {
+            return Outcome.NOT_ADMITTED;
+        }
+
+        // 4. 좌석 조회 → 5. 예매 (충돌 시 다른 좌석으로 재시도)
+        for (int attempt = 0; attempt < config.reserveAttempts(); attempt++) {
+            JsonNode seats = call("seats", get("/api/events/" + eventId + "/seats"));
+            if (seats == null) {
+                return Outcome.FAILED;
+            }
+
+            List<String> available = new ArrayList<>();
+            for (JsonNode seat : seats) {
+                if ("AVAILABLE".equals(seat.path("status").asText())) {
+                    available.add(seat.path("id").asText());
+                }
+            }
+            if (available.isEmpty()) {
+                return Outcome.SOLD_OUT;
+            }
+
+            String seatId = available.get(ThreadLocalRandom.current().nextInt(available.size()));
+            String body = objectMapper.writeValueAsString(Map.of("eventId", eventId, "seatId", seatId));
+            JsonNode reservation = call("reserve", post("/api/reservations", body));
+            if (reservation != null) {
+                result.recordSeat(UUID.fromString(reservation.path("seatId").asText()));
+                return Outcome.RESERVED;
+            }
+        }
+        return Outcome.FAILED;
+    }
+
+    private HttpRequest get(String path) {
+        return request(path).GET().build();
+    }
+
+    private HttpRequest post(String path, String body) {
+        HttpRequest.Builder builder = request(path);
+        if (body == null) {
+            return builder.POST(HttpRequest.BodyPublishers.noBody()).build();
+        }
+        return builder.header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(30))
+                .header("X-User-Id", userId.toString());
+    }
+
+    /**
+     * @return 2xx 응답 본문, 그 외에는 오류로 기록하고 null
+     */
+    private JsonNode call(String endpoint, HttpRequest request) throws IOException, InterruptedException {
+        EndpointStats endpointStats = stats.get(endpoint);
+        long start = System.nanoTime();
+        HttpResponse<String> response;
+        try {
+            response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        } catch (IOException e) {
+            endpointStats.error(e.getClass().getSimpleName());
+            throw e;
+        }
+        endpointStats.record(start, response.statusCode());
+
+        if (response.statusCode() / 100 != 2) {
+            return null;
+        }
+        return objectMapper.readTree(response.body());
+    }
+}
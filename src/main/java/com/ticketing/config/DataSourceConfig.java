@@ -0,0 +1,91 @@
+package com.ticketing.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.observation.ObservationRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/**
+ * 읽기 / 쓰기 커넥션 풀 분리.
+ * 쓰기 트랜잭션은 primary 풀, 읽기 전용 트랜잭션(@Transactional(readOnly = true))은 replica 풀을 사용해
+ * 좌석 조회 / 리포트 조회가 예매 트랜잭션의 커넥션을 빼앗지 않도록 한다.
+ *
+ * replica가 지연되거나 연결되지 않으면 읽기는 primary DB의 작은 읽기 전용 풀(primary-read)로 보낸다.
+ * 복제 지연은 보통 쓰기 부하가 클 때 생기므로, 이때 읽기가 쓰기 풀을 나눠 쓰면 예매가 커넥션을 못 얻는다.
+ *
+ * LazyConnectionDataSourceProxy는 첫 쿼리 시점에 실제 커넥션을 얻으므로,
+ * 트랜잭션 시작 시 설정된 read-only 여부에 따라 풀을 고를 수 있다.
+ * primary 풀의 커넥션 획득은 ObservedDataSource로 감싸 요청 트레이스에 대기 시간이 남도록 한다.
+ */
+@Configuration
+public class DataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    public HikariDataSource replicaDataSource(DataSourceProperties primary, ReplicaProperties replica) {
+        HikariDataSource dataSource = primary.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        if (replica.getUrl() != null && !replica.getUrl().isBlank()) {
+            dataSource.setJdbcUrl(replica.getUrl());
+        }
+        if (replica.getUsername() != null) {
+            dataSource.setUsername(replica.getUsername());
+        }
+        if (replica.getPassword() != null) {
+            dataSource.setPassword(replica.getPassword());
+        }
+        dataSource.setPoolName("replica");
+        dataSource.setMaximumPoolSize(replica.getMaximumPoolSize());
+        dataSource.setMinimumIdle(replica.getMaximumPoolSize());
+        dataSource.setConnectionTimeout(3000);
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    public HikariDataSource primaryReadDataSource(DataSourceProperties primary, ReplicaProperties replica) {
+        HikariDataSource dataSource = primary.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary-read");
+        dataSource.setMaximumPoolSize(replica.getFallbackPoolSize());
+        dataSource.setMinimumIdle(0);  // replica가 정상이면 쓰이지 않으므로 필요할 때만 연결
+        dataSource.setConnectionTimeout(3000);
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(@Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                               ReplicaProperties properties) {
+        return new ReplicaLagMonitor(replicaDataSource, properties);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                 @Qualifier("primaryReadDataSource") DataSource primaryReadDataSource,
+                                 @Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                 ReplicaLagMonitor lagMonitor,
+                                 ObservationRegistry observationRegistry) {
+        ReplicaRoutingDataSource readOnlyDataSource =
+                new ReplicaRoutingDataSource(primaryReadDataSource, replicaDataSource, lagMonitor);
+        readOnlyDataSource.afterPropertiesSet();
+
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(
+                new ObservedDataSource(primaryDataSource, observationRegistry, "primary"));
+        dataSource.setReadOnlyDataSource(readOnlyDataSource);
+        return dataSource;
+    }
+}
@@ -0,0 +1,17 @@
+package com.ticketing.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "ticketing.lifecycle")
+@Getter
+@Setter
+public class LifecycleProperties {
+
+    private long soldOutGraceSeconds = 300; // 매진 후 CLOSED까지 유예 - 토큰을 가진 사용자의 예매 / 취소 마무리
+    private int statusCacheSeconds = 5;     // 대기열 진입 시 확인하는 이벤트 상태의 로컬 캐시 시간
+    private int unlinkBatchSize = 500;      // UNLINK 한 번에 지우는 키 수
+}
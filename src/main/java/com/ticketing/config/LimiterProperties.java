@@ -0,0 +1,39 @@
+package com.ticketing.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * API별 적응형 동시 처리 한도 설정
+ */
+@Component
+@ConfigurationProperties(prefix = "ticketing.limiter")
+@Getter
+@Setter
+public class LimiterProperties {
+
+    private boolean enabled = true;
+    private int retryAfterSeconds = 1;
+    private Bulkhead queue = new Bulkhead(100, 10, 1000);
+    private Bulkhead reservation = new Bulkhead(20, 4, 200);
+
+    @Getter
+    @Setter
+    public static class Bulkhead {
+
+        private int initialLimit;
+        private int minLimit;
+        private int maxLimit;
+
+        public Bulkhead() {
+        }
+
+        public Bulkhead(int initialLimit, int minLimit, int maxLimit) {
+            this.initialLimit = initialLimit;
+            this.minLimit = minLimit;
+            this.maxLimit = maxLimit;
+        }
+    }
+}
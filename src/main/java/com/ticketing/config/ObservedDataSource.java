@@ -0,0 +1,47 @@
+package com.ticketing.config;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * 커넥션 풀 대기 시간을 db.connection.acquire Observation으로 기록.
+ * 요청 트레이스 안에서 "커넥션을 기다린 시간"을 락 대기 / 커밋과 구분해서 보기 위함.
+ */
+public class ObservedDataSource extends DelegatingDataSource {
+
+    public static final String CONNECTION_ACQUIRE = "db.connection.acquire";
+
+    private final ObservationRegistry registry;
+    private final String poolName;
+
+    public ObservedDataSource(DataSource target, ObservationRegistry registry, String poolName) {
+        super(target);
+        this.registry = registry;
+        this.poolName = poolName;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        // 요청 밖(스케줄러, 기동 시)의 커넥션 획득은 기록하지 않음
+        if (registry.getCurrentObservation() == null) {
+            return super.getConnection();
+        }
+        Observation observation = Observation.createNotStarted(CONNECTION_ACQUIRE, registry)
+                .lowCardinalityKeyValue("pool", poolName)
+                .contextualName("connection acquire")
+                .start();
+        try {
+            return super.getConnection();
+        } catch (SQLException | RuntimeException e) {
+            observation.error(e);
+            throw e;
+        } finally {
+            observation.stop();
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.ticketing.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "ticketing.outbox")
+@Getter
+@Setter
+public class OutboxProperties {
+
+    private int relayBatchSize = 200;        // 한 번에 발행할 outbox 행 수
+    private int relayMaxBatches = 10;        // 한 주기에 발행할 최대 배치 수 (밀려 있어도 스케줄러를 오래 잡지 않도록)
+    private int consumerBatchSize = 200;     // 한 번에 읽을 stream 메시지 수
+    private long streamMaxLength = 100_000;  // stream 보관 길이 (대략적 trim)
+    private long claimIdleMs = 30_000;       // 이 시간 동안 ack되지 않은 메시지는 다른 소비자가 가져감
+    private long dedupeTtlSeconds = 86_400;  // 중복 처리 방지 키 유지 시간
+}
@@ -0,0 +1,55 @@
+package com.ticketing.config;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.config.BaseConfig;
+import org.redisson.spring.starter.RedissonAutoConfigurationCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.redis.RedisConnectionFailureException;
+
+import java.time.Duration;
+
+@Slf4j
+@Configuration
+public class RedisCircuitBreakerConfig {
+
+    @Bean
+    public CircuitBreaker queueRedisCircuitBreaker(TicketingProperties properties) {
+        TicketingProperties.Fallback fallback = properties.getFallback();
+
+        CircuitBreakerConfig config = CircuitBreakerConfig.custom()
+                .slidingWindowType(CircuitBreakerConfig.SlidingWindowType.COUNT_BASED)
+                .slidingWindowSize(20)
+                .minimumNumberOfCalls(10)
+                .failureRateThreshold(fallback.getFailureRateThreshold())
+                .waitDurationInOpenState(Duration.ofSeconds(fallback.getOpenStateSeconds()))
+                .permittedNumberOfCallsInHalfOpenState(3)
+                // 연결 실패 / 타임아웃만 장애로 집계 (비즈니스 예외 제외)
+                .recordExceptions(RedisConnectionFailureException.class, QueryTimeoutException.class)
+                .build();
+
+        CircuitBreaker circuitBreaker = CircuitBreaker.of("queue-redis", config);
+        circuitBreaker.getEventPublisher()
+                .onStateTransition(event -> log.warn("Queue Redis circuit: {}", event.getStateTransition()));
+        return circuitBreaker;
+    }
+
+    /**
+     * Redisson은 기본으로 명령을 3번 더 재시도(1.5초 간격)하므로 Redis가 죽으면 호출 하나가 수 초간 묶인다.
+     * 재시도를 줄여 명령 타임아웃(spring.data.redis.timeout) 한 번 만에 실패가 서킷에 집계되도록 한다.
+     */
+    @Bean
+    public RedissonAutoConfigurationCustomizer failFastRedissonCustomizer(TicketingProperties properties) {
+        TicketingProperties.Fallback fallback = properties.getFallback();
+        return config -> {
+            BaseConfig<?> server = config.isClusterConfig() ? config.useClusterServers()
+                    : config.isSentinelConfig() ? config.useSentinelServers()
+                    : config.useSingleServer();
+            server.setRetryAttempts(fallback.getRedisRetryAttempts());
+            server.setRetryInterval(fallback.getRedisRetryIntervalMs());
+        };
+    }
+}
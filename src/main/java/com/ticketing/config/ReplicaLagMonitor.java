@@ -0,0 +1,63 @@
+package com.ticketing.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+
+/**
+ * replica 복제 지연 감시.
+ * 받은 WAL을 모두 재생했으면 지연 0, 아니면 마지막 재생 트랜잭션 이후 경과 시간을 지연으로 본다.
+ * (쓰기가 없어 재생할 것이 없는 동안 지연이 늘어나는 것으로 오인하지 않도록)
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private static final String LAG_QUERY = """
+            SELECT CASE
+                WHEN NOT pg_is_in_recovery() THEN 0
+                WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000, 0)
+            END
+            """;
+
+    private final JdbcTemplate replicaJdbcTemplate;
+    private final ReplicaProperties properties;
+
+    private volatile boolean stale;
+
+    public ReplicaLagMonitor(DataSource replicaDataSource, ReplicaProperties properties) {
+        this.replicaJdbcTemplate = new JdbcTemplate(replicaDataSource);
+        this.properties = properties;
+    }
+
+    @Scheduled(fixedDelayString = "${ticketing.datasource.replica.lag-check-interval-ms:1000}")
+    public void check() {
+        if (properties.getUrl() == null || properties.getUrl().isBlank()) {
+            return;  // 별도 replica 없음 - 같은 DB의 읽기 풀이라 지연 없음
+        }
+
+        try {
+            Double lagMs = replicaJdbcTemplate.queryForObject(LAG_QUERY, Double.class);
+            record(lagMs != null ? lagMs.longValue() : 0);
+        } catch (DataAccessException e) {
+            // replica 연결 불가 시에도 primary로 우회
+            record(Long.MAX_VALUE);
+        }
+    }
+
+    void record(long lagMs) {
+        boolean nowStale = lagMs > properties.getMaxLagMs();
+        if (nowStale != stale) {
+            log.warn("Replica {} (lag={} ms)", nowStale ? "stale - reads routed to primary" : "recovered",
+                    lagMs == Long.MAX_VALUE ? "unreachable" : lagMs);
+        }
+        stale = nowStale;
+    }
+
+    public boolean isStale() {
+        return stale;
+    }
+}
@@ -0,0 +1,25 @@
+package com.ticketing.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 읽기 전용 트랜잭션용 replica 설정.
+ * url을 비우면 primary DB에 읽기 전용 풀을 따로 만들어 쓰기 풀과 분리만 한다.
+ */
+@Component
+@ConfigurationProperties(prefix = "ticketing.datasource.replica")
+@Getter
+@Setter
+public class ReplicaProperties {
+
+    private String url;
+    private String username;
+    private String password;
+    private int maximumPoolSize = 5;
+    private long maxLagMs = 1000;          // replica 지연이 이보다 크면 읽기도 primary로
+    private int fallbackPoolSize = 2;      // 그때 쓰는 primary 읽기 전용 풀 크기 - 쓰기 풀과 분리
+    private long lagCheckIntervalMs = 1000;
+}
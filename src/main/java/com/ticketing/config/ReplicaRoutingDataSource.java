@@ -0,0 +1,27 @@
+package com.ticketing.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * 읽기 전용 커넥션의 대상 선택 - 평소에는 replica, 복제 지연이 크면 primary DB의 읽기 전용 풀(쓰기 풀과 별도).
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    private enum Target {PRIMARY, REPLICA}
+
+    private final ReplicaLagMonitor lagMonitor;
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica, ReplicaLagMonitor lagMonitor) {
+        this.lagMonitor = lagMonitor;
+        setTargetDataSources(Map.of(Target.PRIMARY, primary, Target.REPLICA, replica));
+        setDefaultTargetDataSource(replica);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return lagMonitor.isStale() ? Target.PRIMARY : Target.REPLICA;
+    }
+}
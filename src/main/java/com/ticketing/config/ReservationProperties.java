@@ -0,0 +1,20 @@
+package com.ticketing.config;
+
+import com.ticketing.reservation.application.ClaimStrategyType;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "ticketing.reservation")
+@Getter
+@Setter
+public class ReservationProperties {
+
+    private ClaimStrategyType claimStrategy = ClaimStrategyType.LOCK;
+    private int optimisticMaxAttempts = 3;
+    private int bestAvailableMaxQuantity = 4;
+    private int bestAvailableMaxRounds = 5;  // DB 충돌 시 다른 블록으로 다시 고르는 횟수
+    private int bestAvailableSpread = 8;     // 사용자별로 나눠 고르는 상위 후보 블록 수 (Pod 간 같은 블록 경합 완화)
+}
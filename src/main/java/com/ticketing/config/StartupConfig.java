@@ -0,0 +1,29 @@
+package com.ticketing.config;
+
+import org.redisson.spring.starter.RedissonAutoConfigurationCustomizer;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * CDS 아카이브 생성용 학습 실행(training run) 지원.
+ * 이미지 빌드 중에는 DB / Redis가 없으므로 학습 실행에서만 마이그레이션과 Redis 연결을 미룬다.
+ * AOT 모드에서는 조건부 빈이 빌드 시점에 고정되므로 프로퍼티로 빈을 빼지 않고 빈 안에서 분기한다.
+ */
+@Configuration
+public class StartupConfig {
+
+    @Bean
+    public FlywayMigrationStrategy flywayMigrationStrategy(StartupProperties properties) {
+        return flyway -> {
+            if (!properties.isTrainingRun()) {
+                flyway.migrate();
+            }
+        };
+    }
+
+    @Bean
+    public RedissonAutoConfigurationCustomizer trainingRunRedissonCustomizer(StartupProperties properties) {
+        return config -> config.setLazyInitialization(properties.isTrainingRun());
+    }
+}
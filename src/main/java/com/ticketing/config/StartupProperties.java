@@ -0,0 +1,18 @@
+package com.ticketing.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "ticketing.startup")
+@Getter
+@Setter
+public class StartupProperties {
+
+    private boolean warmupEnabled = true;
+    private int warmupIterations = 20;   // readiness 전에 대기열 / 예매 경로를 반복 호출하는 횟수
+    private boolean trainingRun = false; // CDS 아카이브 생성용 실행 - 외부 연결(마이그레이션, Redis) 생략
+    private int earlyRequestCount = 100; // 기동 직후 지연 시간을 따로 기록할 요청 수
+}
@@ -14,4 +14,38 @@ public class TicketingProperties {
     private int maxConcurrent;
     private int tokenTtl;
     private int activityTtl;
+    private int admissionBatchSize = 0;     // 한 번에 READY로 보여줄 최대 인원 (0 = 남은 자리만큼)
+    private long pollIntervalMs = 1000;     // 클라이언트 polling 간격 권장값
+    private int policyCacheSeconds = 60;    // 이벤트별 정책 로컬 캐시 유지 시간 (변경 알림을 놓친 경우 대비)
+    private double admissionRateSmoothing = 0.3;  // 입장 속도 EWMA 가중치 (클수록 최근 값 반영)
+    private long maxPollIntervalMs = 15000;  // 순서가 멀 때 늘려줄 polling 간격 상한
+    private Fallback fallback = new Fallback();
+    private Cluster cluster = new Cluster();
+
+    /**
+     * Redis 장애 시 Pod 로컬 대기열 설정
+     */
+    @Getter
+    @Setter
+    public static class Fallback {
+
+        private int capacity = 4096;              // 이벤트당 로컬 대기열 크기 (2의 거듭제곱으로 올림)
+        private double admissionShare = 0.1;      // Pod 하나가 로컬로 입장시킬 maxConcurrent 비율
+        private float failureRateThreshold = 50;  // 서킷 OPEN 기준 실패율 (%)
+        private int openStateSeconds = 5;         // OPEN 유지 시간 - 이후 HALF_OPEN으로 Redis 재시도
+        private int redisRetryAttempts = 0;       // Redisson 명령 재시도 횟수 - 0이면 타임아웃 한 번에 실패로 집계
+        private int redisRetryIntervalMs = 100;   // 재시도 간격 (Redisson 기본 1500ms)
+    }
+
+    /**
+     * Pod 간 이벤트 소유권 (대기열 정리 분산) 설정
+     */
+    @Getter
+    @Setter
+    public static class Cluster {
+
+        private long heartbeatIntervalMs = 5000;  // Pod 생존 신호 주기
+        private long memberTtlMs = 15000;         // 이 시간 동안 신호가 없으면 멤버에서 제외
+        private long leaseTtlMs = 45000;          // 이벤트 정리 리스 유지 시간 (정리 주기보다 길게)
+    }
 }
@@ -0,0 +1,17 @@
+package com.ticketing.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "ticketing.tracing")
+@Getter
+@Setter
+public class TracingProperties {
+
+    private int slowTopK = 20;              // 구간별로 보관할 가장 느린 예매 요청 수
+    private long slowWindowSeconds = 300;   // 보관 구간 길이 - 현재 + 직전 구간을 조회
+    private long slowLogThresholdMs = 1000; // 이보다 느린 요청은 단계별 시간을 로그로 남김
+}
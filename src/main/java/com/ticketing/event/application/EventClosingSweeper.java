@@ -0,0 +1,188 @@
+package com.ticketing.event.application;
+
+import com.ticketing.config.LifecycleProperties;
+import com.ticketing.event.domain.Event;
+import com.ticketing.event.domain.EventStats;
+import com.ticketing.event.domain.repository.EventRepository;
+import com.ticketing.event.domain.repository.EventStatsRepository;
+import com.ticketing.queue.application.cluster.EventOwnership;
+import com.ticketing.queue.application.eta.AdmissionRateTracker;
+import com.ticketing.reservation.domain.repository.ReservationOutboxRepository;
+import com.ticketing.reservation.domain.repository.ReservationRepository;
+import com.ticketing.seat.domain.SeatStatus;
+import com.ticketing.seat.domain.repository.SeatRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 이벤트 상태를 진행시키고, 종료된 이벤트의 Redis 키를 회수한다.
+ *
+ * OPEN     → 남은 좌석이 없으면 SOLD_OUT
+ * SOLD_OUT → soldOutGraceSeconds 후 CLOSED
+ * CLOSED   → 최종 통계 보관 → 이벤트 키를 직접 나열해 UNLINK(배치) → 지울 키가 없으면 정리 완료
+ *
+ * 정리 완료(swept_at)된 이벤트는 더 이상 조회하지 않으므로, Redis에는 판매 중인 이벤트의 키만 남는다.
+ * 이벤트마다 담당 Pod 한 곳만 처리한다 (EventOwnership 리스).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EventClosingSweeper {
+
+    private static final String QUEUE_KEY = "queue:%s";
+    private static final String ACTIVITY_KEY = "queue:activity:%s:%s";
+    private static final String TOKEN_KEY = "token:%s:%s";
+    private static final String SEAT_LOCK_KEY = "lock:seat:%s:%s";
+    private static final List<String> EVENT_KEYS = List.of(
+            "seat:count:%s", "token:count:%s", "policy:queue:%s", "admission:count:%s", "admission:rate:%s"
+    );
+
+    private final EventRepository eventRepository;
+    private final EventStatsRepository eventStatsRepository;
+    private final SeatRepository seatRepository;
+    private final ReservationRepository reservationRepository;
+    private final ReservationOutboxRepository outboxRepository;
+    private final EventLifecycleService lifecycle;
+    private final EventOwnership eventOwnership;
+    private final StringRedisTemplate redisTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final LifecycleProperties properties;
+
+    @Scheduled(fixedDelay = 30000)  // 30초마다
+    public void sweep() {
+        List<Event> events;
+        try {
+            events = transactionTemplate.execute(status -> eventRepository.findBySweptAtIsNull());
+        } catch (DataAccessException e) {
+            log.warn("Skip event lifecycle sweep - DB unavailable");
+            return;
+        }
+
+        for (Event event : events) {
+            try {
+                if (eventOwnership.tryAcquire(event.getId())) {
+                    advance(event);
+                }
+            } catch (DataAccessException e) {
+                log.warn("Skip event lifecycle sweep: {}", event.getId());
+            }
+        }
+    }
+
+    void advance(Event event) {
+        UUID eventId = event.getId();
+        switch (event.getStatus()) {
+            case OPEN -> {
+                if (!seatRepository.existsByEventIdAndStatus(eventId, SeatStatus.AVAILABLE)) {
+                    lifecycle.markSoldOut(eventId);
+                }
+            }
+            case SOLD_OUT -> {
+                if (event.getSoldOutAt().plusSeconds(properties.getSoldOutGraceSeconds()).isBefore(LocalDateTime.now())) {
+                    lifecycle.close(eventId);
+                }
+            }
+            case CLOSED -> reclaim(event);
+        }
+    }
+
+    private void reclaim(Event event) {
+        UUID eventId = event.getId();
+
+        // 발행 / 처리 전인 후처리가 있으면 카운터 키가 다시 생길 수 있으므로 outbox가 비워진 뒤 정리
+        if (outboxRepository.existsByEventId(eventId)) {
+            return;
+        }
+
+        if (!eventStatsRepository.existsById(eventId)) {
+            archive(event);
+        }
+
+        long unlinked = unlinkEventKeys(eventId);
+        if (unlinked > 0) {
+            // 정리 도중 늦게 도착한 요청이 만든 키까지 다음 주기에 한 번 더 확인
+            log.info("Reclaimed event keys: eventId={}, keys={}", eventId, unlinked);
+            return;
+        }
+
+        transactionTemplate.executeWithoutResult(status -> eventRepository.findById(eventId).ifPresent(Event::markSwept));
+        log.info("Event sweep completed: {}", eventId);
+    }
+
+    private void archive(Event event) {
+        UUID eventId = event.getId();
+        String admitted = redisTemplate.opsForValue().get(AdmissionRateTracker.admittedKey(eventId));
+        Long waiting = redisTemplate.opsForZSet().zCard(String.format(QUEUE_KEY, eventId));
+
+        EventStats stats = new EventStats(
+                event,
+                reservationRepository.countByEventId(eventId),
+                admitted != null ? Long.parseLong(admitted) : 0,
+                waiting != null ? waiting : 0
+        );
+        transactionTemplate.executeWithoutResult(status -> eventStatsRepository.save(stats));
+    }
+
+    /**
+     * 이벤트 키를 키 종류별로 직접 나열해 배치 단위로 UNLINK - 다른 이벤트 키까지 훑는 키스페이스 SCAN 없음.
+     *
+     * - 대기 중인 사용자(대기열 ZSET 멤버)의 활동 / 토큰 키
+     * - 좌석 분산 락 (좌석 ID는 DB에서)
+     * - 카운터 / 정책 / 입장 속도 키, 마지막으로 대기열 ZSET
+     *
+     * 대기열을 떠난 토큰 보유자의 토큰 키는 TTL로 사라진다. 담당 Pod 리스(lease:*)도 TTL로 사라지므로 남겨둔다.
+     * UNLINK는 값 해제를 백그라운드 스레드에서 하므로 큰 대기열 ZSET도 Redis를 막지 않는다.
+     */
+    private long unlinkEventKeys(UUID eventId) {
+        int batchSize = properties.getUnlinkBatchSize();
+        List<String> batch = new ArrayList<>(batchSize);
+        long unlinked = 0;
+
+        String queueKey = String.format(QUEUE_KEY, eventId);
+        for (long start = 0; ; start += batchSize) {
+            Set<String> userIds = redisTemplate.opsForZSet().range(queueKey, start, start + batchSize - 1);
+            if (userIds == null || userIds.isEmpty()) {
+                break;
+            }
+            for (String userId : userIds) {
+                unlinked += add(batch, String.format(ACTIVITY_KEY, eventId, userId));
+                unlinked += add(batch, String.format(TOKEN_KEY, eventId, userId));
+            }
+        }
+
+        for (UUID seatId : seatRepository.findIdsByEventId(eventId)) {
+            unlinked += add(batch, String.format(SEAT_LOCK_KEY, eventId, seatId));
+        }
+
+        for (String key : EVENT_KEYS) {
+            unlinked += add(batch, String.format(key, eventId));
+        }
+        unlinked += add(batch, queueKey);
+        return unlinked + flush(batch);
+    }
+
+    private long add(List<String> batch, String key) {
+        batch.add(key);
+        return batch.size() >= properties.getUnlinkBatchSize() ? flush(batch) : 0;
+    }
+
+    private long flush(List<String> batch) {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        Long count = redisTemplate.unlink(batch);
+        batch.clear();
+        return count != null ? count : 0;
+    }
+}
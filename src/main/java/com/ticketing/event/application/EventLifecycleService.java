@@ -0,0 +1,152 @@
+package com.ticketing.event.application;
+
+import com.ticketing.config.LifecycleProperties;
+import com.ticketing.event.domain.Event;
+import com.ticketing.event.domain.EventStats;
+import com.ticketing.event.domain.EventStatus;
+import com.ticketing.event.domain.repository.EventRepository;
+import com.ticketing.event.domain.repository.EventStatsRepository;
+import com.ticketing.queue.application.fallback.FallbackQueueRegistry;
+import com.ticketing.seat.application.index.SeatAvailabilityIndex;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * 이벤트 판매 상태 전환과 조회.
+ * 대기열 진입마다 DB를 읽지 않도록 상태를 Pod 로컬에 캐시하고, 상태가 바뀌면 Pub/Sub으로 모든 Pod에 알린다.
+ * CLOSED는 되돌아가지 않으므로 만료 없이 캐시한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class EventLifecycleService implements MessageListener {
+
+    public static final String STATUS_CHANNEL = "event:status";
+
+    private final EventRepository eventRepository;
+    private final EventStatsRepository eventStatsRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final SeatAvailabilityIndex seatAvailabilityIndex;
+    private final FallbackQueueRegistry fallbackQueues;
+    private final LifecycleProperties properties;
+
+    private final Map<UUID, Cached> statuses = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(STATUS_CHANNEL));
+    }
+
+    /**
+     * 이벤트 상태 (events 행이 없는 이벤트는 OPEN으로 간주)
+     */
+    public EventStatus statusOf(UUID eventId) {
+        Cached cached = statuses.get(eventId);
+        if (cached != null && !cached.isExpired(properties.getStatusCacheSeconds())) {
+            return cached.status();
+        }
+
+        try {
+            EventStatus status = eventRepository.findStatusById(eventId).orElse(EventStatus.OPEN);
+            statuses.put(eventId, new Cached(status, System.currentTimeMillis()));
+            return status;
+        } catch (DataAccessException e) {
+            // DB 장애로 대기열까지 막지 않음 - 마지막으로 본 상태 사용
+            log.warn("Failed to load event status: {}", eventId);
+            return cached != null ? cached.status() : EventStatus.OPEN;
+        }
+    }
+
+    /**
+     * 대기열 진입 가능 여부 확인 - 매진 / 종료된 이벤트면 예외
+     */
+    public void ensureAcceptingQueue(UUID eventId) {
+        switch (statusOf(eventId)) {
+            case SOLD_OUT -> throw new IllegalStateException("매진된 이벤트입니다.");
+            case CLOSED -> throw new IllegalStateException("판매가 종료된 이벤트입니다.");
+            case OPEN -> {
+            }
+        }
+    }
+
+    public EventStatus markSoldOut(UUID eventId) {
+        return transition(eventId, Event::markSoldOut);
+    }
+
+    /**
+     * 판매 종료. Redis 키는 EventClosingSweeper가 이후 주기에서 정리한다.
+     */
+    public EventStatus close(UUID eventId) {
+        return transition(eventId, Event::close);
+    }
+
+    /**
+     * 종료 후 보관된 최종 통계 (정리 주기 전이면 예외)
+     */
+    public EventStats getStats(UUID eventId) {
+        return eventStatsRepository.findById(eventId)
+                .orElseThrow(() -> new IllegalArgumentException("이벤트 통계가 아직 없습니다."));
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String payload = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            int idx = payload.indexOf(':');
+            apply(UUID.fromString(payload.substring(0, idx)), EventStatus.valueOf(payload.substring(idx + 1)));
+        } catch (RuntimeException e) {
+            log.warn("Invalid event status message: {}", payload);
+        }
+    }
+
+    private EventStatus transition(UUID eventId, Consumer<Event> change) {
+        EventStatus status = transactionTemplate.execute(tx -> {
+            Event event = eventRepository.findById(eventId)
+                    .orElseThrow(() -> new IllegalArgumentException("이벤트를 찾을 수 없습니다."));
+            change.accept(event);
+            return event.getStatus();
+        });
+
+        apply(eventId, status);
+        try {
+            redisTemplate.convertAndSend(STATUS_CHANNEL, eventId + ":" + status);
+        } catch (DataAccessException e) {
+            // 다른 Pod는 statusCacheSeconds 후 DB에서 다시 읽음
+            log.warn("Failed to publish event status: {}", eventId);
+        }
+        return status;
+    }
+
+    // 종료된 이벤트의 Pod 로컬 상태(빈 좌석 인덱스, 로컬 대기열)도 함께 비움
+    private void apply(UUID eventId, EventStatus status) {
+        statuses.put(eventId, new Cached(status, System.currentTimeMillis()));
+        if (status == EventStatus.CLOSED) {
+            seatAvailabilityIndex.evict(eventId);
+            fallbackQueues.detach(eventId);
+        }
+    }
+
+    private record Cached(EventStatus status, long loadedAt) {
+
+        boolean isExpired(int cacheSeconds) {
+            return status != EventStatus.CLOSED && System.currentTimeMillis() - loadedAt > cacheSeconds * 1000L;
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.ticketing.event.application;
+
+import com.ticketing.event.application.dto.ProvisionedEvent;
+import com.ticketing.event.application.dto.SeatRowLayout;
+import com.ticketing.event.domain.Event;
+import com.ticketing.event.domain.repository.EventRepository;
+import com.ticketing.seat.domain.SeatStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+public class EventProvisionService {
+
+    private final EventRepository eventRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final StringRedisTemplate redisTemplate;
+
+    private static final String SEAT_COUNT_KEY = "seat:count:%s";
+    private static final String TOKEN_COUNT_KEY = "token:count:%s";
+
+    private static final int MAX_SEATS = 200_000;
+    private static final int BATCH_SIZE = 1_000;
+
+    // reWriteBatchedInserts 설정으로 드라이버가 배치를 multi-row INSERT로 재작성
+    private static final String INSERT_SEAT_SQL =
+            "INSERT INTO seats (id, event_id, seat_number, status) VALUES (?, ?, ?, ?)";
+
+    @Transactional
+    public ProvisionedEvent provision(String name, List<SeatRowLayout> rows) {
+        int totalSeats = validate(name, rows);
+
+        Event event = eventRepository.saveAndFlush(new Event(name, totalSeats));
+        UUID eventId = event.getId();
+
+        // 1. 좌석 INSERT - JPA saveAll 대신 청크 단위 JDBC 배치
+        List<UUID> seatIds = new ArrayList<>(totalSeats);
+        List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+        String status = SeatStatus.AVAILABLE.name();
+
+        for (SeatRowLayout row : rows) {
+            for (int number = 1; number <= row.seatCount(); number++) {
+                UUID seatId = UUID.randomUUID();
+                seatIds.add(seatId);
+                batch.add(new Object[]{seatId, eventId, row.row() + number, status});
+
+                if (batch.size() == BATCH_SIZE) {
+                    jdbcTemplate.batchUpdate(INSERT_SEAT_SQL, batch);
+                    batch.clear();
+                }
+            }
+        }
+        if (!batch.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_SEAT_SQL, batch);
+        }
+
+        // 2. Redis 카운터 초기화 - 커밋 후 MSET 한 번으로 잔여 좌석 / 입장 인원 설정
+        // 커밋 전에 쓰면 롤백된 이벤트의 카운터가 Redis에 남음
+        Map<String, String> counters = Map.of(
+                String.format(SEAT_COUNT_KEY, eventId), String.valueOf(totalSeats),
+                String.format(TOKEN_COUNT_KEY, eventId), "0"
+        );
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                redisTemplate.opsForValue().multiSet(counters);
+            }
+        });
+
+        return new ProvisionedEvent(eventId, name, seatIds);
+    }
+
+    private int validate(String name, List<SeatRowLayout> rows) {
+        if (name == null || name.isBlank()) {
+            throw new IllegalArgumentException("이벤트 이름이 필요합니다.");
+        }
+        if (rows == null || rows.isEmpty()) {
+            throw new IllegalArgumentException("좌석 배치가 비어 있습니다.");
+        }
+
+        long totalSeats = 0;
+        for (SeatRowLayout row : rows) {
+            if (row.row() == null || row.row().isBlank() || row.seatCount() <= 0) {
+                throw new IllegalArgumentException("잘못된 좌석 열 정보입니다.");
+            }
+            totalSeats += row.seatCount();
+        }
+        if (totalSeats > MAX_SEATS) {
+            throw new IllegalArgumentException("좌석 수는 " + MAX_SEATS + "석을 넘을 수 없습니다.");
+        }
+        return (int) totalSeats;
+    }
+}
@@ -0,0 +1,17 @@
+package com.ticketing.event.application.dto;
+
+import java.util.UUID;
+
+public record EventProvisionResponse(
+        UUID eventId,
+        String name,
+        int seatCount
+) {
+    public static EventProvisionResponse from(ProvisionedEvent event) {
+        return new EventProvisionResponse(
+                event.eventId(),
+                event.name(),
+                event.seatCount()
+        );
+    }
+}
@@ -0,0 +1,28 @@
+package com.ticketing.event.application.dto;
+
+import com.ticketing.event.domain.EventStats;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record EventStatsResponse(
+        UUID eventId,
+        int totalSeats,
+        long reservedSeats,
+        long admittedUsers,
+        long waitingAtClose,
+        LocalDateTime closedAt,
+        LocalDateTime archivedAt
+) {
+    public static EventStatsResponse from(EventStats stats) {
+        return new EventStatsResponse(
+                stats.getEventId(),
+                stats.getTotalSeats(),
+                stats.getReservedSeats(),
+                stats.getAdmittedUsers(),
+                stats.getWaitingAtClose(),
+                stats.getClosedAt(),
+                stats.getArchivedAt()
+        );
+    }
+}
@@ -0,0 +1,11 @@
+package com.ticketing.event.application.dto;
+
+import com.ticketing.event.domain.EventStatus;
+
+import java.util.UUID;
+
+public record EventStatusResponse(
+        UUID eventId,
+        EventStatus status
+) {
+}
@@ -0,0 +1,14 @@
+package com.ticketing.event.application.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+public record ProvisionedEvent(
+        UUID eventId,
+        String name,
+        List<UUID> seatIds
+) {
+    public int seatCount() {
+        return seatIds.size();
+    }
+}
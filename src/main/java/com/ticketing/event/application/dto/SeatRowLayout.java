@@ -0,0 +1,6 @@
+package com.ticketing.event.application.dto;
+
+public record SeatRowLayout(
+        String row,
+        int seatCount
+) {}
@@ -0,0 +1,67 @@
+package com.ticketing.event.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Entity
+@Table(name = "events")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class Event {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @Column(nullable = false)
+    private String name;
+
+    @Column(nullable = false)
+    private int totalSeats;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private EventStatus status;
+
+    private LocalDateTime soldOutAt;
+
+    private LocalDateTime closedAt;
+
+    private LocalDateTime sweptAt;  // Redis 키 정리 완료 시각
+
+    public Event(String name, int totalSeats) {
+        this.name = name;
+        this.totalSeats = totalSeats;
+        this.createdAt = LocalDateTime.now();
+        this.status = EventStatus.OPEN;
+    }
+
+    public void markSoldOut() {
+        if (status == EventStatus.OPEN) {
+            this.status = EventStatus.SOLD_OUT;
+            this.soldOutAt = LocalDateTime.now();
+        }
+    }
+
+    public void close() {
+        if (status != EventStatus.CLOSED) {
+            this.status = EventStatus.CLOSED;
+            this.closedAt = LocalDateTime.now();
+        }
+    }
+
+    public void markSwept() {
+        if (status != EventStatus.CLOSED) {
+            throw new IllegalStateException("종료되지 않은 이벤트입니다.");
+        }
+        this.sweptAt = LocalDateTime.now();
+    }
+}
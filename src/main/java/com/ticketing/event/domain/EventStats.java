@@ -0,0 +1,50 @@
+package com.ticketing.event.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 종료된 이벤트의 최종 통계. Redis 카운터를 지우기 전에 한 번 기록한다.
+ */
+@Entity
+@Table(name = "event_stats")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class EventStats {
+
+    @Id
+    private UUID eventId;
+
+    @Column(nullable = false)
+    private int totalSeats;
+
+    @Column(nullable = false)
+    private long reservedSeats;
+
+    @Column(nullable = false)
+    private long admittedUsers;     // 토큰 발급 누적 인원
+
+    @Column(nullable = false)
+    private long waitingAtClose;    // 종료 시점 대기열에 남아 있던 인원
+
+    @Column(nullable = false)
+    private LocalDateTime closedAt;
+
+    @Column(nullable = false)
+    private LocalDateTime archivedAt;
+
+    public EventStats(Event event, long reservedSeats, long admittedUsers, long waitingAtClose) {
+        this.eventId = event.getId();
+        this.totalSeats = event.getTotalSeats();
+        this.reservedSeats = reservedSeats;
+        this.admittedUsers = admittedUsers;
+        this.waitingAtClose = waitingAtClose;
+        this.closedAt = event.getClosedAt();
+        this.archivedAt = LocalDateTime.now();
+    }
+}
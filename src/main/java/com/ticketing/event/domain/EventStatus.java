@@ -0,0 +1,11 @@
+package com.ticketing.event.domain;
+
+/**
+ * 이벤트 판매 상태. OPEN → SOLD_OUT → CLOSED 순으로만 바뀐다.
+ * SOLD_OUT부터 대기열 진입을 거부하고, CLOSED가 되면 이벤트의 Redis 키를 정리한다.
+ */
+public enum EventStatus {
+    OPEN,
+    SOLD_OUT,
+    CLOSED
+}
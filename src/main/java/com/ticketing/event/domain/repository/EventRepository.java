@@ -0,0 +1,21 @@
+package com.ticketing.event.domain.repository;
+
+import com.ticketing.event.domain.Event;
+import com.ticketing.event.domain.EventStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface EventRepository extends JpaRepository<Event, UUID> {
+
+    /**
+     * 판매 중이거나 Redis 키 정리가 끝나지 않은 이벤트 (idx_events_unswept)
+     */
+    List<Event> findBySweptAtIsNull();
+
+    @Query("SELECT e.status FROM Event e WHERE e.id = :eventId")
+    Optional<EventStatus> findStatusById(UUID eventId);
+}
@@ -0,0 +1,9 @@
+package com.ticketing.event.domain.repository;
+
+import com.ticketing.event.domain.EventStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.UUID;
+
+public interface EventStatsRepository extends JpaRepository<EventStats, UUID> {
+}
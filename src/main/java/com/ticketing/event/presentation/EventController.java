@@ -0,0 +1,23 @@
+package com.ticketing.event.presentation;
+
+import com.ticketing.event.application.EventProvisionService;
+import com.ticketing.event.application.dto.EventProvisionResponse;
+import com.ticketing.event.application.dto.ProvisionedEvent;
+import com.ticketing.event.presentation.dto.EventProvisionRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/admin/events")
+@RequiredArgsConstructor
+public class EventController {
+
+    private final EventProvisionService eventProvisionService;
+
+    @PostMapping
+    public ResponseEntity<EventProvisionResponse> provision(@RequestBody EventProvisionRequest request) {
+        ProvisionedEvent event = eventProvisionService.provision(request.name(), request.rows());
+        return ResponseEntity.ok(EventProvisionResponse.from(event));
+    }
+}
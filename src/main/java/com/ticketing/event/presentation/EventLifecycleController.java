@@ -0,0 +1,31 @@
+package com.ticketing.event.presentation;
+
+import com.ticketing.event.application.EventLifecycleService;
+import com.ticketing.event.application.dto.EventStatsResponse;
+import com.ticketing.event.application.dto.EventStatusResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.UUID;
+
+/**
+ * 운영자용 이벤트 판매 종료 / 최종 통계 API
+ */
+@RestController
+@RequestMapping("/api/admin/events/{eventId}")
+@RequiredArgsConstructor
+public class EventLifecycleController {
+
+    private final EventLifecycleService eventLifecycleService;
+
+    @PostMapping("/close")
+    public ResponseEntity<EventStatusResponse> close(@PathVariable UUID eventId) {
+        return ResponseEntity.ok(new EventStatusResponse(eventId, eventLifecycleService.close(eventId)));
+    }
+
+    @GetMapping("/stats")
+    public ResponseEntity<EventStatsResponse> stats(@PathVariable UUID eventId) {
+        return ResponseEntity.ok(EventStatsResponse.from(eventLifecycleService.getStats(eventId)));
+    }
+}
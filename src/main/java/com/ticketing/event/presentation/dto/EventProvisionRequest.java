@@ -0,0 +1,10 @@
+package com.ticketing.event.presentation.dto;
+
+import com.ticketing.event.application.dto.SeatRowLayout;
+
+import java.util.List;
+
+public record EventProvisionRequest(
+        String name,
+        List<SeatRowLayout> rows
+) {}
@@ -0,0 +1,95 @@
+package com.ticketing.limiter;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 관측한 응답 시간으로 동시 처리 한도를 조절하는 limiter (gradient 방식).
+ *
+ * 장기 평균 RTT 대비 현재 RTT가 늘어나면(= 어딘가에 줄이 서기 시작하면) 한도를 줄이고,
+ * 그대로면 sqrt(limit)만큼 여유를 더해 한도를 늘린다.
+ * 한도를 넘는 요청은 기다리게 하지 않고 즉시 거절한다.
+ */
+public class AdaptiveLimiter {
+
+    private static final double SMOOTHING = 0.2;       // 한 번에 반영할 새 한도 비율
+    private static final double RTT_TOLERANCE = 1.5;   // 장기 RTT의 1.5배까지는 정상으로 봄
+    private static final double BACKOFF_RATIO = 0.9;   // 실패(5xx / 예외) 시 한도 감소 비율
+    private static final int SHORT_WINDOW = 10;        // 현재 RTT EWMA 샘플 수 (튀는 값 완화)
+    private static final int LONG_WINDOW = 600;        // 장기 RTT EWMA 샘플 수
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private volatile double limit;
+    private double shortRtt;
+    private double longRtt;
+
+    public AdaptiveLimiter(int initialLimit, int minLimit, int maxLimit) {
+        if (minLimit < 1 || minLimit > initialLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException("동시 처리 한도는 1 <= min <= initial <= max 여야 합니다.");
+        }
+        this.limit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+    }
+
+    /**
+     * 한도 안이면 처리 슬롯을 차지하고 true. 반드시 onSuccess / onDropped / onIgnore 중 하나로 반환해야 한다.
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= getLimit()) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    public void onSuccess(long rttNanos) {
+        int inFlightAtCompletion = inFlight.getAndDecrement();
+        update(rttNanos, inFlightAtCompletion);
+    }
+
+    public synchronized void onDropped() {
+        inFlight.decrementAndGet();
+        limit = Math.max(minLimit, limit * BACKOFF_RATIO);
+    }
+
+    // 한도 계산에 반영하지 않을 결과 (클라이언트 오류 등)
+    public void onIgnore() {
+        inFlight.decrementAndGet();
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    private synchronized void update(long rttNanos, int inFlightAtCompletion) {
+        double rtt = Math.max(1, rttNanos);
+        shortRtt = shortRtt == 0 ? rtt : shortRtt + (rtt - shortRtt) / SHORT_WINDOW;
+        longRtt = longRtt == 0 ? rtt : longRtt + (rtt - longRtt) / LONG_WINDOW;
+
+        // 부하가 빠진 뒤 장기 RTT가 높게 남아 한도가 과하게 커지지 않도록 빠르게 따라 내려감
+        if (longRtt / shortRtt > 2) {
+            longRtt *= 0.95;
+        }
+
+        // 한도의 절반도 안 쓰고 있으면 한도를 늘릴 근거가 없음
+        if (inFlightAtCompletion < limit / 2) {
+            return;
+        }
+
+        double gradient = Math.max(0.5, Math.min(1.0, RTT_TOLERANCE * longRtt / shortRtt));
+        double newLimit = limit * gradient + Math.sqrt(limit);
+        newLimit = limit * (1 - SMOOTHING) + newLimit * SMOOTHING;
+        limit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+    }
+}
@@ -0,0 +1,141 @@
+package com.ticketing.limiter;
+
+import com.ticketing.config.LimiterProperties;
+import com.ticketing.reservation.application.SeatContentionException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+/**
+ * 대기열 / 예매 API 앞단 적응형 bulkhead.
+ * 한도를 넘는 요청은 Tomcat / Hikari 대기열에 쌓이지 않도록 즉시 503 + Retry-After로 돌려보낸다.
+ * 대기열 polling 폭주가 예매 처리 슬롯을 잡아먹지 않도록 두 API의 한도를 따로 둔다.
+ */
+@Component
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private static final String REJECTED_BODY =
+            "{\"message\":\"요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요.\"}";
+
+    private final LimiterProperties properties;
+    private final Map<String, AdaptiveLimiter> limiters;
+    private final Map<String, Counter> rejectedCounters;
+
+    public ConcurrencyLimitFilter(LimiterProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.limiters = Map.of(
+                "queue", create(properties.getQueue()),
+                "reservation", create(properties.getReservation())
+        );
+        this.rejectedCounters = Map.of(
+                "queue", rejectedCounter(meterRegistry, "queue"),
+                "reservation", rejectedCounter(meterRegistry, "reservation")
+        );
+        limiters.forEach((bulkhead, limiter) -> {
+            Gauge.builder("ticketing.limiter.limit", limiter, AdaptiveLimiter::getLimit)
+                    .tag("bulkhead", bulkhead)
+                    .register(meterRegistry);
+            Gauge.builder("ticketing.limiter.inflight", limiter, AdaptiveLimiter::getInFlight)
+                    .tag("bulkhead", bulkhead)
+                    .register(meterRegistry);
+        });
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled() || bulkheadOf(request) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String bulkhead = bulkheadOf(request);
+        AdaptiveLimiter limiter = limiters.get(bulkhead);
+
+        if (!limiter.tryAcquire()) {
+            rejectedCounters.get(bulkhead).increment();
+            reject(response);
+            return;
+        }
+
+        long start = System.nanoTime();
+        try {
+            chain.doFilter(request, response);
+        } catch (ServletException | IOException | RuntimeException e) {
+            Throwable cause = rootCause(e);
+            if (cause instanceof SeatContentionException) {
+                // 락 대기 / 재시도 소진은 경합 신호 - 걸린 시간을 그대로 반영해 한도가 내려가도록
+                limiter.onSuccess(System.nanoTime() - start);
+            } else if (isBusinessException(cause)) {
+                // 매진 / 중복 예매 같은 업무 예외는 과부하 신호가 아님
+                limiter.onIgnore();
+            } else {
+                limiter.onDropped();
+            }
+            throw e;
+        }
+
+        if (response.getStatus() >= 500) {
+            limiter.onDropped();
+        } else if (response.getStatus() >= 400) {
+            limiter.onIgnore();
+        } else {
+            limiter.onSuccess(System.nanoTime() - start);
+        }
+    }
+
+    // 대기열: /api/queue/**, 예매: 예매 요청(POST /api/reservations/**)만 - 조회 API는 한도 대상 아님
+    private String bulkheadOf(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        if (uri.startsWith("/api/queue/")) {
+            return "queue";
+        }
+        if (uri.startsWith("/api/reservations") && "POST".equals(request.getMethod())) {
+            return "reservation";
+        }
+        return null;
+    }
+
+    private static Throwable rootCause(Throwable e) {
+        Throwable cause = e;
+        while (cause instanceof ServletException && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause;
+    }
+
+    private static boolean isBusinessException(Throwable cause) {
+        return cause instanceof IllegalStateException || cause instanceof IllegalArgumentException;
+    }
+
+    private void reject(HttpServletResponse response) throws IOException {
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(properties.getRetryAfterSeconds()));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.getWriter().write(REJECTED_BODY);
+    }
+
+    private static AdaptiveLimiter create(LimiterProperties.Bulkhead bulkhead) {
+        return new AdaptiveLimiter(bulkhead.getInitialLimit(), bulkhead.getMinLimit(), bulkhead.getMaxLimit());
+    }
+
+    private static Counter rejectedCounter(MeterRegistry meterRegistry, String bulkhead) {
+        return Counter.builder("ticketing.limiter.rejected")
+                .tag("bulkhead", bulkhead)
+                .register(meterRegistry);
+    }
+}
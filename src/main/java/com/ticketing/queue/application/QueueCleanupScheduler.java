@@ -1,11 +1,12 @@
 package com.ticketing.queue.application;
 
+import com.ticketing.queue.application.cluster.EventOwnership;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
-import java.util.Set;
 import java.util.UUID;
 
 @Slf4j
@@ -14,19 +15,27 @@ import java.util.UUID;
 public class QueueCleanupScheduler {
 
     private final QueueService queueService;
+    private final EventOwnership eventOwnership;
 
+    /**
+     * 이벤트마다 담당 Pod 한 곳만 정리한다 (Pod 수만큼 Redis 부하가 늘어나지 않도록).
+     * 대상 이벤트는 queue:events 목록에서 읽으므로 Pod마다 키스페이스를 SCAN하지 않는다.
+     */
     @Scheduled(fixedRate = 30000)  // 30초마다 실행
     public void cleanupInactiveUsers() {
-        Set<String> queueKeys = queueService.getActiveQueueKeys();
-
-        for (String queueKey : queueKeys) {
-            String eventIdStr = queueKey.replace("queue:", "");
+        for (UUID eventId : queueService.getActiveEventIds()) {
             try {
-                UUID eventId = UUID.fromString(eventIdStr);
-                queueService.removeInactiveUsers(eventId);
-            } catch (IllegalArgumentException e) {
-                log.warn("Invalid queue key format: {}", queueKey);
+                if (eventOwnership.tryAcquire(eventId)) {
+                    queueService.removeInactiveUsers(eventId);
+                }
+            } catch (DataAccessException e) {
+                log.warn("Skip inactive user cleanup - lease unavailable: {}", eventId);
             }
         }
     }
+
+    @Scheduled(fixedDelay = 5000)  // Redis 복구 후 로컬 대기열 이관
+    public void reconcileFallbackQueues() {
+        queueService.reconcileFallbackQueues();
+    }
 }
@@ -1,120 +1,422 @@
 package com.ticketing.queue.application;
 
 import com.ticketing.config.TicketingProperties;
+import com.ticketing.event.application.EventLifecycleService;
 import com.ticketing.queue.application.dto.QueueEnterResponse;
 import com.ticketing.queue.application.dto.QueueEnteredResponse;
 import com.ticketing.queue.application.dto.QueueResponse;
 import com.ticketing.queue.application.dto.QueueStatus;
 import com.ticketing.queue.application.dto.QueueWaitingResponse;
 import com.ticketing.queue.application.dto.TokenResponse;
+import com.ticketing.queue.application.eta.AdmissionRateTracker;
+import com.ticketing.queue.application.eta.QueueEta;
+import com.ticketing.queue.application.fallback.FallbackQueueRegistry;
+import com.ticketing.queue.application.fallback.LocalQueue;
+import com.ticketing.queue.application.policy.QueuePolicy;
+import com.ticketing.queue.application.policy.QueuePolicyService;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.RedisStringCommands.SetOption;
+import org.springframework.data.redis.connection.RedisZSetCommands.ZAddArgs;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.types.Expiration;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.UUID;
-import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class QueueService {
 
     private final StringRedisTemplate redisTemplate;
+    private final CircuitBreaker queueRedisCircuitBreaker;
+    private final FallbackQueueRegistry fallbackQueues;
+    private final QueuePolicyService policies;
+    private final EventLifecycleService eventLifecycle;
     private final TicketingProperties properties;
 
+    // 대기열이 있는 이벤트 목록 - 정리 / 입장 속도 작업이 키스페이스 SCAN 없이 대상 이벤트를 찾도록
+    public static final String ACTIVE_EVENTS_KEY = "queue:events";
+
     private static final String QUEUE_KEY = "queue:%s";
     private static final String TOKEN_KEY = "token:%s:%s";
     private static final String TOKEN_COUNT_KEY = "token:count:%s";
     private static final String ACTIVITY_KEY = "queue:activity:%s:%s";
 
+    // 대량 처리 시 한 번의 파이프라인 / 스크립트로 보내는 단위
+    private static final int BATCH_SIZE = 500;
+
+    // 여러 단계의 대기열 / 토큰 변경은 스크립트 하나로 묶어 원자적으로 실행 (EVALSHA, 1 round-trip)
+    private static final DefaultRedisScript<Long> ENTER_SCRIPT = new DefaultRedisScript<>("""
+            local queueKey = KEYS[1]
+            local activityKey = KEYS[2]
+            local eventsKey = KEYS[3]
+            local userId = ARGV[1]
+            local score = ARGV[2]
+            local activityTtl = tonumber(ARGV[3])
+            local eventId = ARGV[4]
+
+            redis.call('ZADD', queueKey, score, userId)
+            redis.call('SET', activityKey, 1, 'EX', activityTtl)
+            redis.call('SADD', eventsKey, eventId)
+            return redis.call('ZRANK', queueKey, userId)
+            """, Long.class);
+
+    // 대기열이 비었으면 이벤트 목록에서 제외 - 같은 스크립트 안에서 확인하므로 동시 진입(SADD)과 엇갈리지 않음
+    private static final DefaultRedisScript<Long> UNREGISTER_IF_EMPTY_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('ZCARD', KEYS[1]) == 0 then
+                return redis.call('SREM', KEYS[2], ARGV[1])
+            end
+            return 0
+            """, Long.class);
+
+    // 반환: {-2, 0, 0} 입장 완료 / {-1, 0, 0} 대기열 없음 / {rank, 입장 가능 인원, 입장 속도(명/1000초, 모르면 -1)}
+    @SuppressWarnings("rawtypes")
+    private static final DefaultRedisScript<List> STATUS_SCRIPT = new DefaultRedisScript<>("""
+            local tokenKey = KEYS[1]
+            local queueKey = KEYS[2]
+            local countKey = KEYS[3]
+            local activityKey = KEYS[4]
+            local rateKey = KEYS[5]
+            local userId = ARGV[1]
+            local maxConcurrent = tonumber(ARGV[2])
+            local tokenTtl = tonumber(ARGV[3])
+            local activityTtl = tonumber(ARGV[4])
+            local batchSize = tonumber(ARGV[5])
+
+            if redis.call('EXPIRE', tokenKey, tokenTtl) == 1 then
+                return {-2, 0, 0}
+            end
+
+            local rank = redis.call('ZRANK', queueKey, userId)
+            if rank == false then
+                return {-1, 0, 0}
+            end
+
+            -- 활동 TTL 갱신 - polling 시마다 갱신되어 활성 상태 유지
+            redis.call('SET', activityKey, 1, 'EX', activityTtl)
+
+            local current = tonumber(redis.call('GET', countKey) or 0)
+            local window = maxConcurrent - current
+            if batchSize > 0 and batchSize < window then
+                window = batchSize
+            end
+
+            -- Lua 정수 변환 시 소수점이 잘리므로 1000배로 전달
+            local rate = redis.call('HGET', rateKey, 'rate')
+            local rateMilli = -1
+            if rate then
+                rateMilli = math.floor(tonumber(rate) * 1000)
+            end
+            return {rank, window, rateMilli}
+            """, List.class);
+
+    private static final DefaultRedisScript<Long> ACQUIRE_TOKEN_SCRIPT = new DefaultRedisScript<>("""
+            local tokenKey = KEYS[1]
+            local countKey = KEYS[2]
+            local queueKey = KEYS[3]
+            local admittedKey = KEYS[4]
+            local userId = ARGV[1]
+            local maxConcurrent = tonumber(ARGV[2])
+            local ttl = tonumber(ARGV[3])
+            local batchSize = tonumber(ARGV[4])
+
+            if redis.call('EXISTS', tokenKey) == 1 then
+                return 1
+            end
+
+            local rank = redis.call('ZRANK', queueKey, userId)
+            if rank == false then
+                return -1
+            end
+
+            local current = tonumber(redis.call('GET', countKey) or 0)
+            local remaining = maxConcurrent - current
+            if batchSize > 0 and batchSize < remaining then
+                remaining = batchSize
+            end
+
+            if rank < remaining then
+                redis.call('SET', tokenKey, 1, 'EX', ttl)
+                redis.call('INCR', countKey)
+                redis.call('ZREM', queueKey, userId)
+                redis.call('INCR', admittedKey)
+                redis.call('EXPIRE', admittedKey, 86400)
+                return 1
+            end
+
+            return 0
+            """, Long.class);
+
+    // 토큰을 실제로 지운 요청만 카운트 감소 - 동시 반환 시 중복 감소 방지
+    private static final DefaultRedisScript<Long> RELEASE_TOKEN_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('DEL', KEYS[1]) == 1 then
+                redis.call('DECR', KEYS[2])
+                return 1
+            end
+            return 0
+            """, Long.class);
+
+    // KEYS[1] = 입장 인원 카운트, KEYS[2..] = 토큰 키. 새로 발급한 토큰 수만큼 카운트 증가
+    private static final DefaultRedisScript<Long> ISSUE_TOKENS_SCRIPT = new DefaultRedisScript<>("""
+            local ttl = tonumber(ARGV[1])
+            local issued = 0
+            for i = 2, #KEYS do
+                if redis.call('SET', KEYS[i], 1, 'NX', 'EX', ttl) then
+                    issued = issued + 1
+                end
+            end
+            if issued > 0 then
+                redis.call('INCRBY', KEYS[1], issued)
+            end
+            return issued
+            """, Long.class);
+
     public QueueEnterResponse enter(UUID eventId, UUID userId) {
+        // 매진 / 종료된 이벤트는 대기열에 새로 들이지 않음 (이미 대기 중인 사용자는 그대로 진행)
+        eventLifecycle.ensureAcceptingQueue(eventId);
+        return withFallback(eventId,
+                () -> enterRedis(eventId, userId),
+                () -> enterLocal(eventId, userId));
+    }
+
+    public QueueResponse getStatus(UUID eventId, UUID userId) {
+        return withFallback(eventId,
+                () -> getStatusRedis(eventId, userId),
+                () -> getStatusLocal(eventId, userId));
+    }
+
+    public TokenResponse acquireToken(UUID eventId, UUID userId) {
+        return withFallback(eventId,
+                () -> acquireTokenRedis(eventId, userId),
+                () -> toTokenResponse((long) localQueue(eventId).admit(userId.toString())));
+    }
+
+    public boolean hasToken(UUID eventId, UUID userId) {
+        return withFallback(eventId,
+                () -> hasTokenRedis(eventId, userId),
+                () -> fallbackQueues.find(eventId)
+                        .map(local -> local.hasToken(userId.toString()))
+                        .orElse(false));
+    }
+
+    public void releaseToken(UUID eventId, UUID userId) {
+        withFallback(eventId,
+                () -> {
+                    releaseTokenRedis(eventId, userId);
+                    return null;
+                },
+                () -> {
+                    fallbackQueues.find(eventId).ifPresent(local -> local.release(userId.toString()));
+                    return null;
+                });
+    }
+
+    private QueueEnterResponse enterRedis(UUID eventId, UUID userId) {
         String queueKey = String.format(QUEUE_KEY, eventId);
         String activityKey = String.format(ACTIVITY_KEY, eventId, userId);
-        String userIdStr = userId.toString();
-        double score = System.currentTimeMillis();
+        QueuePolicy policy = policies.get(eventId);
 
-        redisTemplate.opsForZSet().add(queueKey, userIdStr, score);
-        redisTemplate.opsForValue().set(activityKey, "1", properties.getActivityTtl(), TimeUnit.SECONDS);
-        Long rank = redisTemplate.opsForZSet().rank(queueKey, userIdStr);
+        Long rank = redisTemplate.execute(
+                ENTER_SCRIPT,
+                List.of(queueKey, activityKey, ACTIVE_EVENTS_KEY),
+                userId.toString(),
+                String.valueOf(System.currentTimeMillis()),
+                String.valueOf(policy.activityTtl()),
+                eventId.toString()
+        );
 
         return new QueueEnterResponse(eventId, userId, rank);
     }
 
-    public QueueResponse getStatus(UUID eventId, UUID userId) {
+    private QueueResponse getStatusRedis(UUID eventId, UUID userId) {
         String tokenKey = String.format(TOKEN_KEY, eventId, userId);
         String queueKey = String.format(QUEUE_KEY, eventId);
         String countKey = String.format(TOKEN_COUNT_KEY, eventId);
         String activityKey = String.format(ACTIVITY_KEY, eventId, userId);
+        QueuePolicy policy = policies.get(eventId);
+
+        List<?> result = redisTemplate.execute(
+                STATUS_SCRIPT,
+                List.of(tokenKey, queueKey, countKey, activityKey, AdmissionRateTracker.rateKey(eventId)),
+                userId.toString(),
+                String.valueOf(policy.maxConcurrent()),
+                String.valueOf(policy.tokenTtl()),
+                String.valueOf(policy.activityTtl()),
+                String.valueOf(policy.admissionBatchSize())
+        );
+
+        long rank = ((Number) result.get(0)).longValue();
+        long remaining = ((Number) result.get(1)).longValue();
+        long rateMilli = ((Number) result.get(2)).longValue();
 
-        if (Boolean.TRUE.equals(redisTemplate.hasKey(tokenKey))) {
-            redisTemplate.expire(tokenKey, properties.getTokenTtl(), TimeUnit.SECONDS);
+        if (rank == -2) {
             return new QueueEnteredResponse(QueueStatus.ENTERED);
         }
-
-        Long rank = redisTemplate.opsForZSet().rank(queueKey, userId.toString());
-        if (rank == null) {
+        if (rank == -1) {
             throw new IllegalStateException("대기열에 등록되지 않았습니다.");
         }
 
-        // 활동 TTL 갱신 - polling 시마다 갱신되어 활성 상태 유지
-        redisTemplate.opsForValue().set(activityKey, "1", properties.getActivityTtl(), TimeUnit.SECONDS);
+        double rate = rateMilli < 0 ? QueueEta.UNKNOWN_RATE : rateMilli / 1000.0;
+        return waitingResponse(rank, remaining, rate, policy);
+    }
 
-        String countStr = redisTemplate.opsForValue().get(countKey);
-        int tokenCount = countStr != null ? Integer.parseInt(countStr) : 0;
-        int remaining = properties.getMaxConcurrent() - tokenCount;
+    private TokenResponse acquireTokenRedis(UUID eventId, UUID userId) {
+        String tokenKey = String.format(TOKEN_KEY, eventId, userId);
+        String countKey = String.format(TOKEN_COUNT_KEY, eventId);
+        String queueKey = String.format(QUEUE_KEY, eventId);
+        QueuePolicy policy = policies.get(eventId);
 
-        QueueStatus status = rank < remaining ? QueueStatus.READY : QueueStatus.WAITING;
+        Long result = redisTemplate.execute(
+                ACQUIRE_TOKEN_SCRIPT,
+                List.of(tokenKey, countKey, queueKey, AdmissionRateTracker.admittedKey(eventId)),
+                userId.toString(),
+                String.valueOf(policy.maxConcurrent()),
+                String.valueOf(policy.tokenTtl()),
+                String.valueOf(policy.admissionBatchSize())
+        );
 
-        return new QueueWaitingResponse(status, rank, rank);
+        return toTokenResponse(result);
     }
 
-    public TokenResponse acquireToken(UUID eventId, UUID userId) {
+    private boolean hasTokenRedis(UUID eventId, UUID userId) {
+        String tokenKey = String.format(TOKEN_KEY, eventId, userId);
+        return Boolean.TRUE.equals(redisTemplate.hasKey(tokenKey));
+    }
+
+    private void releaseTokenRedis(UUID eventId, UUID userId) {
         String tokenKey = String.format(TOKEN_KEY, eventId, userId);
         String countKey = String.format(TOKEN_COUNT_KEY, eventId);
+
+        redisTemplate.execute(RELEASE_TOKEN_SCRIPT, List.of(tokenKey, countKey));
+    }
+
+    public void removeInactiveUsers(UUID eventId) {
+        try {
+            queueRedisCircuitBreaker.executeRunnable(() -> removeInactiveUsersRedis(eventId));
+        } catch (CallNotPermittedException | RedisConnectionFailureException | QueryTimeoutException e) {
+            log.warn("Skip inactive user cleanup - Redis unavailable: {}", eventId);
+        }
+    }
+
+    /**
+     * 대기열을 BATCH_SIZE 단위로 읽어 활동 키 존재 여부를 파이프라인으로 한 번에 확인하고,
+     * 비활성 사용자는 청크마다 ZREM 한 번으로 제거한다.
+     * 오프셋 기반 페이지라 읽는 도중 입장(ACQUIRE_TOKEN_SCRIPT의 ZREM)으로 앞쪽 사용자가 빠지면
+     * 일부 사용자를 건너뛸 수 있다. 건너뛴 비활성 사용자는 다음 정리 주기에서 제거된다.
+     */
+    private void removeInactiveUsersRedis(UUID eventId) {
         String queueKey = String.format(QUEUE_KEY, eventId);
+        List<String> inactive = new ArrayList<>();
 
-        String luaScript = """
-                local tokenKey = KEYS[1]
-                local countKey = KEYS[2]
-                local queueKey = KEYS[3]
-                local userId = ARGV[1]
-                local maxConcurrent = tonumber(ARGV[2])
-                local ttl = tonumber(ARGV[3])
+        for (long start = 0; ; start += BATCH_SIZE) {
+            Set<String> members = redisTemplate.opsForZSet().range(queueKey, start, start + BATCH_SIZE - 1);
+            if (members == null || members.isEmpty()) {
+                break;
+            }
 
-                if redis.call('EXISTS', tokenKey) == 1 then
-                    return 1
-                end
+            List<String> userIds = new ArrayList<>(members);
+            List<Object> exists = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection stringConnection = (StringRedisConnection) connection;
+                for (String userId : userIds) {
+                    stringConnection.exists(String.format(ACTIVITY_KEY, eventId, userId));
+                }
+                return null;
+            });
+
+            for (int i = 0; i < userIds.size(); i++) {
+                if (Boolean.FALSE.equals(exists.get(i))) {
+                    inactive.add(userIds.get(i));
+                }
+            }
 
-                local rank = redis.call('ZRANK', queueKey, userId)
-                if rank == false then
-                    return -1
-                end
+            if (userIds.size() < BATCH_SIZE) {
+                break;
+            }
+        }
 
-                local current = tonumber(redis.call('GET', countKey) or 0)
-                local remaining = maxConcurrent - current
+        for (List<String> chunk : chunks(inactive)) {
+            redisTemplate.opsForZSet().remove(queueKey, chunk.toArray());
+        }
+        redisTemplate.execute(UNREGISTER_IF_EMPTY_SCRIPT, List.of(queueKey, ACTIVE_EVENTS_KEY), eventId.toString());
+    }
 
-                if rank < remaining then
-                    redis.call('SET', tokenKey, 1, 'EX', ttl)
-                    redis.call('INCR', countKey)
-                    redis.call('ZREM', queueKey, userId)
-                    return 1
-                end
+    /**
+     * 대기열이 있는 이벤트 ID 목록 (SMEMBERS queue:events - 이벤트 수에 비례, 대기자 수와 무관)
+     */
+    public Set<UUID> getActiveEventIds() {
+        try {
+            return queueRedisCircuitBreaker.executeSupplier(this::getActiveEventIdsRedis);
+        } catch (CallNotPermittedException | RedisConnectionFailureException | QueryTimeoutException e) {
+            return Set.of();
+        }
+    }
 
-                return 0
-                """;
+    /**
+     * Redis 복구 후 로컬 대기열을 Redis로 옮긴다.
+     */
+    public void reconcileFallbackQueues() {
+        for (UUID eventId : fallbackQueues.eventIds()) {
+            try {
+                queueRedisCircuitBreaker.executeRunnable(() -> reconcile(eventId));
+            } catch (CallNotPermittedException | RedisConnectionFailureException | QueryTimeoutException e) {
+                return;
+            }
+        }
+    }
 
-        DefaultRedisScript<Long> script = new DefaultRedisScript<>(luaScript, Long.class);
+    private Set<UUID> getActiveEventIdsRedis() {
+        Set<String> members = redisTemplate.opsForSet().members(ACTIVE_EVENTS_KEY);
+        if (members == null) {
+            return Set.of();
+        }
 
-        Long result = redisTemplate.execute(
-                script,
-                List.of(tokenKey, countKey, queueKey),
-                userId.toString(),
-                String.valueOf(properties.getMaxConcurrent()),
-                String.valueOf(properties.getTokenTtl())
-        );
+        Set<UUID> eventIds = new HashSet<>();
+        for (String member : members) {
+            try {
+                eventIds.add(UUID.fromString(member));
+            } catch (IllegalArgumentException e) {
+                log.warn("Invalid active event id: {}", member);
+            }
+        }
+        return eventIds;
+    }
 
+    private static <T> List<List<T>> chunks(List<T> items) {
+        List<List<T>> chunks = new ArrayList<>();
+        for (int i = 0; i < items.size(); i += BATCH_SIZE) {
+            chunks.add(items.subList(i, Math.min(i + BATCH_SIZE, items.size())));
+        }
+        return chunks;
+    }
+
+    /**
+     * 입장 가능 인원(window) 안이면 READY, 아니면 앞선 대기 인원과 입장 속도로 예상 시간 / polling 간격 계산
+     */
+    private QueueWaitingResponse waitingResponse(long rank, long window, double rate, QueuePolicy policy) {
+        long aheadCount = Math.max(0, rank - Math.max(0, window));
+        if (rank < window) {
+            QueueEta eta = QueueEta.ready(policy);
+            return new QueueWaitingResponse(QueueStatus.READY, rank, 0L, eta.estimatedWaitSeconds(), eta.pollIntervalMs());
+        }
+        QueueEta eta = QueueEta.estimate(aheadCount, rate, policy, properties.getMaxPollIntervalMs());
+        return new QueueWaitingResponse(QueueStatus.WAITING, rank, aheadCount, eta.estimatedWaitSeconds(), eta.pollIntervalMs());
+    }
+
+    private TokenResponse toTokenResponse(Long result) {
         if (result == null || result == 0) {
             return new TokenResponse(false, "아직 입장 순서가 아닙니다.");
         } else if (result == -1) {
@@ -124,45 +426,109 @@ public class QueueService {
         return new TokenResponse(true, "입장 완료");
     }
 
-    public boolean hasToken(UUID eventId, UUID userId) {
-        String tokenKey = String.format(TOKEN_KEY, eventId, userId);
-        return Boolean.TRUE.equals(redisTemplate.hasKey(tokenKey));
+    /**
+     * Redis 호출을 서킷 브레이커로 감싼다.
+     * 서킷이 열려 있거나 연결 실패 / 타임아웃이면 Pod 로컬 대기열로 처리 (degraded mode).
+     */
+    private <T> T withFallback(UUID eventId, Supplier<T> redisCall, Supplier<T> localCall) {
+        try {
+            return queueRedisCircuitBreaker.executeSupplier(() -> {
+                if (fallbackQueues.hasPending(eventId)) {
+                    reconcile(eventId);
+                }
+                return redisCall.get();
+            });
+        } catch (CallNotPermittedException | RedisConnectionFailureException | QueryTimeoutException e) {
+            return localCall.get();
+        }
     }
 
-    public void releaseToken(UUID eventId, UUID userId) {
-        String tokenKey = String.format(TOKEN_KEY, eventId, userId);
-        String countKey = String.format(TOKEN_COUNT_KEY, eventId);
+    // ===== Redis 장애 시 로컬 대기열 =====
 
-        if (Boolean.TRUE.equals(redisTemplate.hasKey(tokenKey))) {
-            redisTemplate.delete(tokenKey);
-            redisTemplate.opsForValue().decrement(countKey);
+    private QueueEnterResponse enterLocal(UUID eventId, UUID userId) {
+        long rank = localQueue(eventId).enter(userId.toString(), System.currentTimeMillis());
+        if (rank == LocalQueue.FULL) {
+            throw new IllegalStateException("대기열이 가득 찼습니다. 잠시 후 다시 시도해 주세요.");
         }
+        return new QueueEnterResponse(eventId, userId, rank);
     }
 
-    public void removeInactiveUsers(UUID eventId) {
-        String queueKey = String.format(QUEUE_KEY, eventId);
+    private QueueResponse getStatusLocal(UUID eventId, UUID userId) {
+        LocalQueue local = localQueue(eventId);
+        QueuePolicy policy = policies.cached(eventId);
+        String userIdStr = userId.toString();
 
-        Set<String> members = redisTemplate.opsForZSet().range(queueKey, 0, -1);
-        if (members == null || members.isEmpty()) {
-            return;
+        if (local.hasToken(userIdStr)) {
+            return new QueueEnteredResponse(QueueStatus.ENTERED);
         }
 
-        for (String userId : members) {
-            String activityKey = String.format(ACTIVITY_KEY, eventId, userId);
-            if (Boolean.FALSE.equals(redisTemplate.hasKey(activityKey))) {
-                redisTemplate.opsForZSet().remove(queueKey, userId);
-            }
+        long rank = local.rank(userIdStr);
+        if (rank == LocalQueue.NOT_IN_QUEUE) {
+            throw new IllegalStateException("대기열에 등록되지 않았습니다.");
         }
+
+        // 장애 중에는 입장 속도를 모름 - 기본 간격으로 안내
+        return waitingResponse(rank, policy.admissionWindow(local.remaining()), QueueEta.UNKNOWN_RATE, policy);
     }
 
-    public Set<String> getActiveQueueKeys() {
-        Set<String> keys = redisTemplate.keys("queue:*");
-        if (keys == null) {
-            return Set.of();
+    // Redis 장애 중에는 캐시된 정책으로 로컬 대기열 한도 결정
+    private LocalQueue localQueue(UUID eventId) {
+        return fallbackQueues.getOrCreate(eventId, policies.cached(eventId).maxConcurrent());
+    }
+
+    /**
+     * 로컬 대기자는 진입 시각을 score로 재등록하고, 로컬 입장자는 토큰을 발급한다.
+     * 모두 이미 존재하면 건너뛰므로 여러 번 실행돼도 안전하다.
+     *
+     * 대기열을 먼저 보관소에서 떼어낸 뒤 옮긴다 (remove는 원자적이라 한 스레드만 옮김).
+     * 옮기는 동안 로컬 경로로 들어온 요청은 새 로컬 대기열에 쌓이고 다음 복구에서 옮겨진다.
+     * 옮기다 Redis가 다시 실패하면 떼어낸 대기열을 보관소에 되돌린다.
+     */
+    private void reconcile(UUID eventId) {
+        fallbackQueues.detach(eventId).ifPresent(local -> {
+            try {
+                migrate(eventId, local);
+            } catch (RuntimeException e) {
+                fallbackQueues.restore(eventId, local);
+                throw e;
+            }
+        });
+    }
+
+    private void migrate(UUID eventId, LocalQueue local) {
+        String queueKey = String.format(QUEUE_KEY, eventId);
+        String countKey = String.format(TOKEN_COUNT_KEY, eventId);
+
+        List<LocalQueue.Entry> pending = local.pendingEntries();
+        QueuePolicy policy = policies.get(eventId);
+        if (!pending.isEmpty()) {
+            redisTemplate.opsForSet().add(ACTIVE_EVENTS_KEY, eventId.toString());
+        }
+        Expiration activityTtl = Expiration.seconds(policy.activityTtl());
+        for (List<LocalQueue.Entry> chunk : chunks(pending)) {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection stringConnection = (StringRedisConnection) connection;
+                for (LocalQueue.Entry entry : chunk) {
+                    String activityKey = String.format(ACTIVITY_KEY, eventId, entry.userId());
+                    stringConnection.zAdd(queueKey, entry.enteredAt(), entry.userId(), ZAddArgs.ifNotExists());
+                    stringConnection.set(activityKey, "1", activityTtl, SetOption.upsert());
+                }
+                return null;
+            });
+        }
+
+        Set<String> admitted = local.admittedUsers();
+        for (List<String> chunk : chunks(new ArrayList<>(admitted))) {
+            List<String> keys = new ArrayList<>(chunk.size() + 1);
+            keys.add(countKey);
+            chunk.forEach(userId -> keys.add(String.format(TOKEN_KEY, eventId, userId)));
+            Long issued = redisTemplate.execute(ISSUE_TOKENS_SCRIPT, keys, String.valueOf(policy.tokenTtl()));
+            if (issued != null && issued > 0) {
+                redisTemplate.opsForValue().increment(AdmissionRateTracker.admittedKey(eventId), issued);
+            }
         }
-        // queue:{eventId} 형식만 필터링 (queue:activity:*, queue:ttl:* 제외)
-        return keys.stream()
-                .filter(key -> key.matches("queue:[0-9a-f\\-]+"))
-                .collect(java.util.stream.Collectors.toSet());
+
+        log.info("Reconciled fallback queue: eventId={}, waiting={}, admitted={}",
+                eventId, pending.size(), admitted.size());
     }
 }
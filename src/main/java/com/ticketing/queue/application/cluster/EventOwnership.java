@@ -0,0 +1,117 @@
+package com.ticketing.queue.application.cluster;
+
+import com.ticketing.config.TicketingProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 이벤트별 담당 Pod 결정.
+ * 살아 있는 Pod 목록에 rendezvous hashing을 적용해 이벤트마다 한 Pod를 고른다.
+ * Pod 수가 바뀌면 사라지거나 새로 생긴 Pod 몫의 이벤트만 옮겨가고 나머지는 그대로 유지된다.
+ *
+ * 멤버 목록이 Pod마다 잠깐 다르게 보이는 동안 두 Pod가 같은 이벤트를 맡지 않도록,
+ * 작업 전에 이벤트별 리스(lease:queue:{eventId})를 획득한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class EventOwnership {
+
+    private static final String LEASE_KEY = "lease:queue:%s";
+
+    // 내가 가진 리스면 연장, 비어 있으면 획득
+    private static final DefaultRedisScript<Long> ACQUIRE_LEASE_SCRIPT = new DefaultRedisScript<>("""
+            local owner = redis.call('GET', KEYS[1])
+            if owner == ARGV[1] then
+                redis.call('PEXPIRE', KEYS[1], ARGV[2])
+                return 1
+            end
+            if owner == false then
+                redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[2])
+                return 1
+            end
+            return 0
+            """, Long.class);
+
+    private static final DefaultRedisScript<Long> RELEASE_LEASE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final PodMembership membership;
+    private final StringRedisTemplate redisTemplate;
+    private final TicketingProperties properties;
+
+    private final Set<UUID> heldLeases = ConcurrentHashMap.newKeySet();
+
+    /**
+     * 현재 멤버 목록 기준으로 이 Pod가 담당하는 이벤트인지 (Redis 호출 없음)
+     */
+    public boolean owns(UUID eventId) {
+        return membership.getPodId().equals(ownerOf(eventId, membership.members()));
+    }
+
+    /**
+     * 담당 이벤트면 리스를 획득 / 연장하고 true, 아니면 가지고 있던 리스를 내려놓고 false
+     */
+    public boolean tryAcquire(UUID eventId) {
+        String leaseKey = String.format(LEASE_KEY, eventId);
+        String podId = membership.getPodId();
+
+        if (!owns(eventId)) {
+            if (heldLeases.remove(eventId)) {
+                redisTemplate.execute(RELEASE_LEASE_SCRIPT, List.of(leaseKey), podId);
+            }
+            return false;
+        }
+
+        Long acquired = redisTemplate.execute(ACQUIRE_LEASE_SCRIPT, List.of(leaseKey),
+                podId, String.valueOf(properties.getCluster().getLeaseTtlMs()));
+        if (acquired != null && acquired == 1) {
+            heldLeases.add(eventId);
+            return true;
+        }
+        heldLeases.remove(eventId);
+        return false;
+    }
+
+    /**
+     * rendezvous (highest random weight) hashing - 이벤트와 멤버 조합의 해시가 가장 큰 멤버가 담당
+     */
+    static String ownerOf(UUID eventId, Collection<String> members) {
+        String owner = null;
+        long best = Long.MIN_VALUE;
+        for (String member : members) {
+            long weight = weight(member, eventId);
+            if (owner == null || weight > best || (weight == best && member.compareTo(owner) < 0)) {
+                owner = member;
+                best = weight;
+            }
+        }
+        return owner;
+    }
+
+    private static long weight(String member, UUID eventId) {
+        // FNV-1a 64 + splitmix64 finalizer
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : member.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b;
+            hash *= 0x100000001b3L;
+        }
+        hash ^= eventId.getMostSignificantBits() * 0x9e3779b97f4a7c15L;
+        hash ^= eventId.getLeastSignificantBits();
+        hash = (hash ^ (hash >>> 30)) * 0xbf58476d1ce4e5b9L;
+        hash = (hash ^ (hash >>> 27)) * 0x94d049bb133111ebL;
+        return hash ^ (hash >>> 31);
+    }
+}
@@ -0,0 +1,80 @@
+package com.ticketing.queue.application.cluster;
+
+import com.ticketing.config.TicketingProperties;
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 살아 있는 Pod 목록.
+ * 각 Pod가 주기적으로 cluster:members (Sorted Set, score = 마지막 신호 시각)에 자신을 기록하고,
+ * memberTtl 동안 신호가 없는 Pod는 제외한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PodMembership {
+
+    private static final String MEMBERS_KEY = "cluster:members";
+
+    private final StringRedisTemplate redisTemplate;
+    private final TicketingProperties properties;
+
+    @Getter
+    private final String podId = resolvePodId();
+
+    private volatile List<String> members = List.of(podId);
+
+    @PreDestroy
+    void leave() {
+        try {
+            redisTemplate.opsForZSet().remove(MEMBERS_KEY, podId);
+        } catch (DataAccessException e) {
+            log.warn("Failed to leave cluster: {}", podId);
+        }
+    }
+
+    // 첫 실행은 스케줄러 시작 직후 - 기동 중에는 Redis를 호출하지 않음
+    @Scheduled(fixedRateString = "${ticketing.queue.cluster.heartbeat-interval-ms:5000}")
+    public void heartbeat() {
+        long now = System.currentTimeMillis();
+        try {
+            redisTemplate.opsForZSet().add(MEMBERS_KEY, podId, now);
+            redisTemplate.opsForZSet().removeRangeByScore(MEMBERS_KEY, 0,
+                    now - properties.getCluster().getMemberTtlMs());
+
+            Set<String> live = redisTemplate.opsForZSet().range(MEMBERS_KEY, 0, -1);
+            if (live != null && !live.isEmpty()) {
+                members = List.copyOf(live);
+            }
+        } catch (DataAccessException e) {
+            // Redis 장애 중에는 마지막으로 본 멤버 목록 유지
+            log.warn("Cluster heartbeat failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 마지막 heartbeat 시점의 살아 있는 Pod 목록 (자기 자신 포함)
+     */
+    public List<String> members() {
+        return members;
+    }
+
+    // K8s에서는 HOSTNAME = Pod 이름. 같은 호스트에서 여러 프로세스를 띄우는 경우를 위해 PID를 붙임
+    private static String resolvePodId() {
+        String hostname = System.getenv("HOSTNAME");
+        if (hostname == null || hostname.isBlank()) {
+            hostname = UUID.randomUUID().toString();
+        }
+        return hostname + "-" + ProcessHandle.current().pid();
+    }
+}
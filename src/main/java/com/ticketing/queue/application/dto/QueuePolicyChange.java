@@ -0,0 +1,12 @@
+package com.ticketing.queue.application.dto;
+
+/**
+ * 대기열 정책 변경 내용 - 값이 있는 필드만 변경 (null = 유지)
+ */
+public record QueuePolicyChange(
+        Integer maxConcurrent,
+        Integer tokenTtl,
+        Integer activityTtl,
+        Integer admissionBatchSize,
+        Long pollIntervalMs
+) {}
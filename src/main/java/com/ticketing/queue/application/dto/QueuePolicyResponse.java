@@ -0,0 +1,25 @@
+package com.ticketing.queue.application.dto;
+
+import com.ticketing.queue.application.policy.QueuePolicy;
+
+import java.util.UUID;
+
+public record QueuePolicyResponse(
+        UUID eventId,
+        int maxConcurrent,
+        int tokenTtl,
+        int activityTtl,
+        int admissionBatchSize,
+        long pollIntervalMs
+) {
+    public static QueuePolicyResponse from(UUID eventId, QueuePolicy policy) {
+        return new QueuePolicyResponse(
+                eventId,
+                policy.maxConcurrent(),
+                policy.tokenTtl(),
+                policy.activityTtl(),
+                policy.admissionBatchSize(),
+                policy.pollIntervalMs()
+        );
+    }
+}
@@ -1,8 +1,16 @@
 package com.ticketing.queue.application.dto;
 
+/**
+ * @param rank                 대기열 순번 (0부터)
+ * @param aheadCount           나보다 먼저 입장해야 하는 인원 - 지금 입장 가능한 인원은 제외
+ * @param estimatedWaitSeconds 예상 대기 시간 (입장 속도를 아직 모르면 null)
+ * @param pollIntervalMs       다음 상태 조회까지 권장 간격
+ */
 public record QueueWaitingResponse(
         QueueStatus status,
         Long rank,
-        Long aheadCount
+        Long aheadCount,
+        Long estimatedWaitSeconds,
+        long pollIntervalMs
 ) implements QueueResponse {
 }
@@ -0,0 +1,106 @@
+package com.ticketing.queue.application.eta;
+
+import com.ticketing.config.TicketingProperties;
+import com.ticketing.queue.application.QueueService;
+import com.ticketing.queue.application.cluster.EventOwnership;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 이벤트별 입장 속도(명/초) 추적.
+ *
+ * 토큰 발급 시 admission:count:{eventId}가 증가하고, 주기마다 담당 Pod 한 곳만 직전 값과의 차이로
+ * 입장 속도를 계산해 EWMA로 admission:rate:{eventId}에 기록한다.
+ * 모든 Pod의 상태 조회는 이 값을 읽어 예상 대기 시간을 계산한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AdmissionRateTracker {
+
+    private static final String ADMITTED_KEY = "admission:count:%s";
+    private static final String RATE_KEY = "admission:rate:%s";
+
+    static final long RATE_TTL_SECONDS = 600;  // 계산이 멈추면(대기열 종료) 속도 정보도 만료
+
+    // 시간은 Redis 서버 시각 - 담당 Pod가 바뀌어도 시계 차이로 속도가 튀지 않도록
+    // 첫 계산은 기준점만 기록하고, 이후 계산부터 rate 필드를 채운다
+    private static final DefaultRedisScript<String> TICK_SCRIPT = new DefaultRedisScript<>("""
+            local countKey = KEYS[1]
+            local rateKey = KEYS[2]
+            local smoothing = tonumber(ARGV[1])
+            local ttl = tonumber(ARGV[2])
+
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+            local count = tonumber(redis.call('GET', countKey) or 0)
+            local previous = redis.call('HMGET', rateKey, 'count', 'at', 'rate')
+
+            local rate = previous[3]
+            if previous[1] and previous[2] then
+                local elapsed = (now - tonumber(previous[2])) / 1000
+                if elapsed > 0 then
+                    local sample = math.max(0, count - tonumber(previous[1])) / elapsed
+                    if rate then
+                        rate = tonumber(rate) + smoothing * (sample - tonumber(rate))
+                    else
+                        rate = sample
+                    end
+                end
+            end
+
+            redis.call('HSET', rateKey, 'count', count, 'at', now)
+            if rate then
+                redis.call('HSET', rateKey, 'rate', tostring(rate))
+            end
+            redis.call('EXPIRE', rateKey, ttl)
+            return rate and tostring(rate) or ''
+            """, String.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final QueueService queueService;
+    private final EventOwnership eventOwnership;
+    private final TicketingProperties properties;
+
+    public static String admittedKey(UUID eventId) {
+        return String.format(ADMITTED_KEY, eventId);
+    }
+
+    public static String rateKey(UUID eventId) {
+        return String.format(RATE_KEY, eventId);
+    }
+
+    @Scheduled(fixedRate = 2000)  // 2초마다 - 이벤트당 한 Pod만 계산
+    public void tickAll() {
+        for (UUID eventId : queueService.getActiveEventIds()) {
+            try {
+                if (eventOwnership.tryAcquire(eventId)) {
+                    tick(eventId);
+                }
+            } catch (DataAccessException e) {
+                log.warn("Skip admission rate tick - Redis unavailable: {}", eventId);
+            }
+        }
+    }
+
+    /**
+     * 입장 속도 갱신. 반환값은 갱신된 속도(명/초), 기준점만 기록했으면 null
+     */
+    Double tick(UUID eventId) {
+        String rate = redisTemplate.execute(
+                TICK_SCRIPT,
+                List.of(admittedKey(eventId), rateKey(eventId)),
+                String.valueOf(properties.getAdmissionRateSmoothing()),
+                String.valueOf(RATE_TTL_SECONDS)
+        );
+        return rate == null || rate.isEmpty() ? null : Double.valueOf(rate);
+    }
+}
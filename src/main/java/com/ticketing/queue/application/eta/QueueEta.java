@@ -0,0 +1,53 @@
+package com.ticketing.queue.application.eta;
+
+import com.ticketing.queue.application.policy.QueuePolicy;
+
+/**
+ * 예상 대기 시간과 다음 polling 권장 간격.
+ * 순서가 멀수록 간격을 늘려 상태 조회 트래픽을 줄이고, 순서가 가까워지면 정책의 기본 간격으로 돌아온다.
+ *
+ * @param estimatedWaitSeconds 입장까지 예상 시간 (입장 속도를 모르면 null)
+ * @param pollIntervalMs       다음 상태 조회까지 권장 간격
+ */
+public record QueueEta(
+        Long estimatedWaitSeconds,
+        long pollIntervalMs
+) {
+
+    // 예상 시간의 이 비율만큼 기다렸다가 다시 조회 - 속도가 변해도 늦게 알아채지 않도록
+    static final int POLLS_PER_ESTIMATE = 4;
+
+    public static final double UNKNOWN_RATE = -1;
+
+    /**
+     * 지금 바로 입장 가능 (READY)
+     */
+    public static QueueEta ready(QueuePolicy policy) {
+        return new QueueEta(0L, policy.pollIntervalMs());
+    }
+
+    /**
+     * @param aheadCount    나보다 먼저 입장해야 하는 인원 (이번 입장 가능 인원 제외)
+     * @param ratePerSecond 최근 입장 속도, 모르면 UNKNOWN_RATE
+     */
+    public static QueueEta estimate(long aheadCount, double ratePerSecond, QueuePolicy policy, long maxPollIntervalMs) {
+        long minInterval = policy.pollIntervalMs();
+        // 활동 TTL 안에 최소 두 번은 조회해야 비활성 정리 대상이 되지 않음
+        long maxInterval = Math.max(minInterval, Math.min(maxPollIntervalMs, policy.activityTtl() * 1000L / 2));
+
+        if (ratePerSecond == UNKNOWN_RATE) {
+            return new QueueEta(null, minInterval);
+        }
+        if (ratePerSecond <= 0) {
+            // 입장이 멈춘 상태 - 예상 불가, 최대 간격으로 조회
+            return new QueueEta(null, aheadCount > 0 ? maxInterval : minInterval);
+        }
+
+        long etaSeconds = (long) Math.ceil((aheadCount + 1) / ratePerSecond);
+        if (aheadCount == 0) {
+            return new QueueEta(etaSeconds, minInterval);
+        }
+        long interval = etaSeconds * 1000 / POLLS_PER_ESTIMATE;
+        return new QueueEta(etaSeconds, Math.max(minInterval, Math.min(maxInterval, interval)));
+    }
+}
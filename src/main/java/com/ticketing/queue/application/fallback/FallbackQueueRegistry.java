@@ -0,0 +1,73 @@
+package com.ticketing.queue.application.fallback;
+
+import com.ticketing.config.TicketingProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 이벤트별 로컬 대기열 보관소.
+ * 로드밸런서가 같은 사용자를 같은 Pod로 보낸다는 전제(X-User-Id 해시 라우팅)에서만 의미가 있다.
+ */
+@Component
+@RequiredArgsConstructor
+public class FallbackQueueRegistry {
+
+    private final TicketingProperties properties;
+    private final Map<UUID, LocalQueue> queues = new ConcurrentHashMap<>();
+
+    /**
+     * 로컬 대기열을 가져오고, 캐시된 정책의 maxConcurrent가 바뀌었으면 입장 한도도 맞춘다.
+     */
+    public LocalQueue getOrCreate(UUID eventId, int maxConcurrent) {
+        int limit = localLimit(maxConcurrent);
+        LocalQueue queue = queues.computeIfAbsent(eventId, id -> new LocalQueue(
+                properties.getFallback().getCapacity(),
+                limit
+        ));
+        queue.updateLimit(limit);
+        return queue;
+    }
+
+    public Optional<LocalQueue> find(UUID eventId) {
+        return Optional.ofNullable(queues.get(eventId));
+    }
+
+    public boolean hasPending(UUID eventId) {
+        return queues.containsKey(eventId);
+    }
+
+    public Set<UUID> eventIds() {
+        return Set.copyOf(queues.keySet());
+    }
+
+    /**
+     * 복구 대상 대기열을 보관소에서 떼어낸다. 이후 요청은 Redis 경로로 처리된다.
+     */
+    public Optional<LocalQueue> detach(UUID eventId) {
+        return Optional.ofNullable(queues.remove(eventId));
+    }
+
+    /**
+     * 복구에 실패한 대기열을 되돌린다.
+     * 그 사이 새로 생긴 로컬 대기열이 있으면 그 대기자 / 입장자를 뒤에 이어 붙인다 (나중에 들어왔으므로 순번도 뒤).
+     */
+    public void restore(UUID eventId, LocalQueue detached) {
+        queues.compute(eventId, (id, fresh) -> {
+            if (fresh != null) {
+                detached.absorb(fresh);
+            }
+            return detached;
+        });
+    }
+
+    // Pod 수를 모르는 상태이므로 전체 입장 인원 중 보수적인 비율만 로컬로 허용
+    private int localLimit(int maxConcurrent) {
+        return Math.max(1, (int) (maxConcurrent * properties.getFallback().getAdmissionShare()));
+    }
+}
@@ -0,0 +1,182 @@
+package com.ticketing.queue.application.fallback;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Redis 장애 시 사용하는 이벤트 단위 Pod 로컬 대기열.
+ * 순번은 고정 크기 링 버퍼에 CAS로 발급하고, 입장은 입장 허용 인원(localLimit) 안에서만 허용한다.
+ */
+public class LocalQueue {
+
+    public static final int NOT_IN_QUEUE = -1;
+    public static final int FULL = -2;
+
+    private static final Entry ADMITTED = new Entry("", 0);
+
+    private final AtomicReferenceArray<Entry> slots;
+    private final int mask;
+    private volatile int localLimit;  // 정책 변경 시 갱신 (이미 입장한 인원은 그대로 두고 이후 입장에만 적용)
+
+    private final AtomicLong head = new AtomicLong();  // 입장하지 않은 가장 오래된 순번
+    private final AtomicLong tail = new AtomicLong();  // 다음에 발급할 순번
+
+    private final ConcurrentHashMap<String, Long> tickets = new ConcurrentHashMap<>();
+    private final Set<String> tokens = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger tokenCount = new AtomicInteger();
+
+    public LocalQueue(int capacity, int localLimit) {
+        int size = Integer.highestOneBit(Math.max(capacity - 1, 1)) << 1;
+        this.slots = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+        this.localLimit = localLimit;
+    }
+
+    /**
+     * @return 0-based 순번, 가득 찼으면 FULL
+     */
+    public long enter(String userId, long enteredAt) {
+        Long ticket = tickets.computeIfAbsent(userId, id -> claimSlot(id, enteredAt));
+        if (ticket == null) {
+            return FULL;
+        }
+        return Math.max(ticket - head.get(), 0);
+    }
+
+    /**
+     * @return 0-based 순번, 대기열에 없으면 NOT_IN_QUEUE
+     */
+    public long rank(String userId) {
+        Long ticket = tickets.get(userId);
+        if (ticket == null) {
+            return NOT_IN_QUEUE;
+        }
+        return Math.max(ticket - head.get(), 0);
+    }
+
+    public void updateLimit(int localLimit) {
+        this.localLimit = localLimit;
+    }
+
+    public int remaining() {
+        return localLimit - tokenCount.get();
+    }
+
+    /**
+     * @return 입장 성공 1, 아직 순서 아님 0, 대기열에 없음 NOT_IN_QUEUE
+     */
+    public int admit(String userId) {
+        if (tokens.contains(userId)) {
+            return 1;
+        }
+
+        Long ticket = tickets.get(userId);
+        if (ticket == null) {
+            return NOT_IN_QUEUE;
+        }
+
+        int current;
+        do {
+            current = tokenCount.get();
+            if (ticket - head.get() >= localLimit - current) {
+                return 0;
+            }
+        } while (!tokenCount.compareAndSet(current, current + 1));
+
+        if (tickets.remove(userId, ticket)) {
+            tokens.add(userId);
+            slots.set(index(ticket), ADMITTED);
+            advanceHead();
+            return 1;
+        }
+
+        // 동시에 같은 사용자가 입장한 경우
+        tokenCount.decrementAndGet();
+        return tokens.contains(userId) ? 1 : 0;
+    }
+
+    public boolean hasToken(String userId) {
+        return tokens.contains(userId);
+    }
+
+    public void release(String userId) {
+        if (tokens.remove(userId)) {
+            tokenCount.decrementAndGet();
+        }
+    }
+
+    public boolean isEmpty() {
+        return tickets.isEmpty() && tokens.isEmpty();
+    }
+
+    /**
+     * 아직 입장하지 않은 대기자를 순번 순으로 반환 (Redis 복구 시 재등록용)
+     */
+    public List<Entry> pendingEntries() {
+        List<Entry> pending = new ArrayList<>();
+        long end = tail.get();
+        for (long seq = head.get(); seq < end; seq++) {
+            Entry entry = slots.get(index(seq));
+            if (entry != null && entry != ADMITTED) {
+                pending.add(entry);
+            }
+        }
+        return pending;
+    }
+
+    public Set<String> admittedUsers() {
+        return Set.copyOf(tokens);
+    }
+
+    /**
+     * 다른 로컬 대기열의 대기자 / 입장자를 이 대기열 뒤에 합친다 (복구 실패 시 되돌리기용)
+     */
+    public void absorb(LocalQueue other) {
+        for (Entry entry : other.pendingEntries()) {
+            enter(entry.userId(), entry.enteredAt());
+        }
+        for (String userId : other.admittedUsers()) {
+            if (tokens.add(userId)) {
+                tokenCount.incrementAndGet();
+            }
+        }
+    }
+
+    private Long claimSlot(String userId, long enteredAt) {
+        long seq;
+        do {
+            seq = tail.get();
+            if (seq - head.get() > mask) {
+                return null;
+            }
+        } while (!tail.compareAndSet(seq, seq + 1));
+
+        slots.set(index(seq), new Entry(userId, enteredAt));
+        return seq;
+    }
+
+    private void advanceHead() {
+        long h;
+        while ((h = head.get()) < tail.get()) {
+            int idx = index(h);
+            if (slots.get(idx) != ADMITTED) {
+                return;
+            }
+            if (head.compareAndSet(h, h + 1)) {
+                slots.compareAndSet(idx, ADMITTED, null);
+            }
+        }
+    }
+
+    private int index(long seq) {
+        return (int) (seq & mask);
+    }
+
+    public record Entry(String userId, long enteredAt) {
+    }
+}
@@ -0,0 +1,61 @@
+package com.ticketing.queue.application.policy;
+
+import com.ticketing.config.TicketingProperties;
+
+import java.util.Map;
+
+/**
+ * 이벤트별 대기열 정책.
+ * Redis Hash(policy:queue:{eventId})에 있는 필드만 기본값(TicketingProperties)을 덮어쓴다.
+ *
+ * @param admissionBatchSize 한 번에 READY로 보여줄 최대 인원 (0 = 남은 자리만큼)
+ * @param pollIntervalMs     클라이언트 polling 간격 권장값
+ */
+public record QueuePolicy(
+        int maxConcurrent,
+        int tokenTtl,
+        int activityTtl,
+        int admissionBatchSize,
+        long pollIntervalMs
+) {
+
+    static final String MAX_CONCURRENT = "maxConcurrent";
+    static final String TOKEN_TTL = "tokenTtl";
+    static final String ACTIVITY_TTL = "activityTtl";
+    static final String ADMISSION_BATCH_SIZE = "admissionBatchSize";
+    static final String POLL_INTERVAL_MS = "pollIntervalMs";
+
+    public static QueuePolicy defaults(TicketingProperties properties) {
+        return new QueuePolicy(
+                properties.getMaxConcurrent(),
+                properties.getTokenTtl(),
+                properties.getActivityTtl(),
+                properties.getAdmissionBatchSize(),
+                properties.getPollIntervalMs()
+        );
+    }
+
+    static QueuePolicy of(Map<String, String> fields, QueuePolicy defaults) {
+        return new QueuePolicy(
+                intField(fields, MAX_CONCURRENT, defaults.maxConcurrent()),
+                intField(fields, TOKEN_TTL, defaults.tokenTtl()),
+                intField(fields, ACTIVITY_TTL, defaults.activityTtl()),
+                intField(fields, ADMISSION_BATCH_SIZE, defaults.admissionBatchSize()),
+                fields.containsKey(POLL_INTERVAL_MS)
+                        ? Long.parseLong(fields.get(POLL_INTERVAL_MS))
+                        : defaults.pollIntervalMs()
+        );
+    }
+
+    /**
+     * 이번에 READY로 보여줄 수 있는 인원 - 남은 자리와 배치 크기 중 작은 값
+     */
+    public long admissionWindow(long remaining) {
+        return admissionBatchSize > 0 ? Math.min(remaining, admissionBatchSize) : remaining;
+    }
+
+    private static int intField(Map<String, String> fields, String name, int defaultValue) {
+        String value = fields.get(name);
+        return value != null ? Integer.parseInt(value) : defaultValue;
+    }
+}
@@ -0,0 +1,141 @@
+package com.ticketing.queue.application.policy;
+
+import com.ticketing.config.TicketingProperties;
+import com.ticketing.queue.application.dto.QueuePolicyChange;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 이벤트별 대기열 정책 조회 / 변경.
+ * 대기열 요청마다 Redis를 한 번 더 읽지 않도록 Pod 로컬에 캐시하고,
+ * 정책이 바뀌면 Pub/Sub으로 모든 Pod의 캐시를 무효화한다.
+ * 메시지를 놓친 Pod도 cacheSeconds가 지나면 다시 읽는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class QueuePolicyService implements MessageListener {
+
+    public static final String CHANGED_CHANNEL = "policy:queue:changed";
+    private static final String POLICY_KEY = "policy:queue:%s";
+
+    private final StringRedisTemplate redisTemplate;
+    private final TicketingProperties properties;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    private final Map<UUID, Cached> cache = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANGED_CHANNEL));
+    }
+
+    /**
+     * 캐시된 정책, 없거나 만료됐으면 Redis에서 읽는다 (Redis 경로 전용)
+     */
+    public QueuePolicy get(UUID eventId) {
+        Cached cached = cache.get(eventId);
+        if (cached != null && !cached.isExpired(properties.getPolicyCacheSeconds())) {
+            return cached.policy();
+        }
+
+        Map<Object, Object> fields = redisTemplate.opsForHash().entries(String.format(POLICY_KEY, eventId));
+        Map<String, String> values = new HashMap<>();
+        fields.forEach((key, value) -> values.put(key.toString(), value.toString()));
+
+        QueuePolicy policy = QueuePolicy.of(values, QueuePolicy.defaults(properties));
+        cache.put(eventId, new Cached(policy, System.currentTimeMillis()));
+        return policy;
+    }
+
+    /**
+     * Redis 호출 없이 캐시된 정책만 사용 (Redis 장애 시 로컬 대기열 경로)
+     */
+    public QueuePolicy cached(UUID eventId) {
+        Cached cached = cache.get(eventId);
+        return cached != null ? cached.policy() : QueuePolicy.defaults(properties);
+    }
+
+    /**
+     * 요청에 값이 있는 필드만 변경한다.
+     */
+    public QueuePolicy update(UUID eventId, QueuePolicyChange request) {
+        Map<String, String> fields = new HashMap<>();
+        putPositive(fields, QueuePolicy.MAX_CONCURRENT, request.maxConcurrent());
+        putPositive(fields, QueuePolicy.TOKEN_TTL, request.tokenTtl());
+        putPositive(fields, QueuePolicy.ACTIVITY_TTL, request.activityTtl());
+        putPositive(fields, QueuePolicy.POLL_INTERVAL_MS, request.pollIntervalMs());
+        if (request.admissionBatchSize() != null) {
+            if (request.admissionBatchSize() < 0) {
+                throw new IllegalArgumentException("admissionBatchSize는 0 이상이어야 합니다.");
+            }
+            fields.put(QueuePolicy.ADMISSION_BATCH_SIZE, String.valueOf(request.admissionBatchSize()));
+        }
+        if (fields.isEmpty()) {
+            throw new IllegalArgumentException("변경할 정책이 없습니다.");
+        }
+
+        redisTemplate.opsForHash().putAll(String.format(POLICY_KEY, eventId), fields);
+        publishChanged(eventId);
+        return get(eventId);
+    }
+
+    /**
+     * 이벤트별 정책을 지우고 기본값으로 되돌린다.
+     */
+    public QueuePolicy reset(UUID eventId) {
+        redisTemplate.delete(String.format(POLICY_KEY, eventId));
+        publishChanged(eventId);
+        return get(eventId);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String payload = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            cache.remove(UUID.fromString(payload));
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid queue policy message: {}", payload);
+        }
+    }
+
+    private void publishChanged(UUID eventId) {
+        cache.remove(eventId);
+        try {
+            redisTemplate.convertAndSend(CHANGED_CHANNEL, eventId.toString());
+        } catch (DataAccessException e) {
+            log.warn("Failed to publish queue policy change: {}", eventId);
+        }
+    }
+
+    private static void putPositive(Map<String, String> fields, String name, Number value) {
+        if (value == null) {
+            return;
+        }
+        if (value.longValue() <= 0) {
+            throw new IllegalArgumentException(name + "는 0보다 커야 합니다.");
+        }
+        fields.put(name, value.toString());
+    }
+
+    private record Cached(QueuePolicy policy, long loadedAt) {
+
+        boolean isExpired(int cacheSeconds) {
+            return System.currentTimeMillis() - loadedAt > cacheSeconds * 1000L;
+        }
+    }
+}
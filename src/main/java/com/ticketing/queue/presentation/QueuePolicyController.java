@@ -0,0 +1,47 @@
+package com.ticketing.queue.presentation;
+
+import com.ticketing.queue.application.dto.QueuePolicyChange;
+import com.ticketing.queue.application.dto.QueuePolicyResponse;
+import com.ticketing.queue.application.policy.QueuePolicyService;
+import com.ticketing.queue.presentation.dto.QueuePolicyRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.UUID;
+
+/**
+ * 운영자용 이벤트별 대기열 정책 API - 재배포 없이 판매 중 조정
+ */
+@RestController
+@RequestMapping("/api/admin/events/{eventId}/queue-policy")
+@RequiredArgsConstructor
+public class QueuePolicyController {
+
+    private final QueuePolicyService queuePolicyService;
+
+    @GetMapping
+    public ResponseEntity<QueuePolicyResponse> get(@PathVariable UUID eventId) {
+        return ResponseEntity.ok(QueuePolicyResponse.from(eventId, queuePolicyService.get(eventId)));
+    }
+
+    @PutMapping
+    public ResponseEntity<QueuePolicyResponse> update(
+            @PathVariable UUID eventId,
+            @RequestBody QueuePolicyRequest request
+    ) {
+        QueuePolicyChange change = new QueuePolicyChange(
+                request.maxConcurrent(),
+                request.tokenTtl(),
+                request.activityTtl(),
+                request.admissionBatchSize(),
+                request.pollIntervalMs()
+        );
+        return ResponseEntity.ok(QueuePolicyResponse.from(eventId, queuePolicyService.update(eventId, change)));
+    }
+
+    @DeleteMapping
+    public ResponseEntity<QueuePolicyResponse> reset(@PathVariable UUID eventId) {
+        return ResponseEntity.ok(QueuePolicyResponse.from(eventId, queuePolicyService.reset(eventId)));
+    }
+}
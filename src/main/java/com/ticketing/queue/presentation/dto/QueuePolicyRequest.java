@@ -0,0 +1,9 @@
+package com.ticketing.queue.presentation.dto;
+
+public record QueuePolicyRequest(
+        Integer maxConcurrent,
+        Integer tokenTtl,
+        Integer activityTtl,
+        Integer admissionBatchSize,
+        Long pollIntervalMs
+) {}
@@ -0,0 +1,102 @@
+package com.ticketing.reservation.application;
+
+import com.ticketing.config.ReservationProperties;
+import com.ticketing.queue.application.QueueService;
+import com.ticketing.reservation.application.dto.ReservationResponse;
+import com.ticketing.reservation.domain.Reservation;
+import com.ticketing.reservation.domain.ReservationOutbox;
+import com.ticketing.reservation.domain.repository.ReservationOutboxRepository;
+import com.ticketing.reservation.domain.repository.ReservationRepository;
+import com.ticketing.seat.application.index.EventSeatMap;
+import com.ticketing.seat.application.index.SeatAvailabilityIndex;
+import com.ticketing.seat.domain.Seat;
+import com.ticketing.seat.domain.repository.SeatRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 좌석을 지정하지 않고 "가장 좋은 연속 N석"을 배정하는 예매.
+ * 사용자들이 같은 좌석에 몰리지 않도록 서버가 빈 좌석 인덱스에서 블록을 골라 나눠준다.
+ */
+@Service
+@RequiredArgsConstructor
+public class BestAvailableReservationService {
+
+    private final ReservationRepository reservationRepository;
+    private final ReservationOutboxRepository outboxRepository;
+    private final SeatRepository seatRepository;
+    private final SeatAvailabilityIndex seatAvailabilityIndex;
+    private final TransactionTemplate transactionTemplate;
+    private final QueueService queueService;
+    private final ReservationProperties properties;
+
+    public List<ReservationResponse> reserve(UUID eventId, UUID userId, int quantity) {
+        if (quantity < 1 || quantity > properties.getBestAvailableMaxQuantity()) {
+            throw new IllegalArgumentException(
+                    "좌석 수는 1 ~ " + properties.getBestAvailableMaxQuantity() + "석만 가능합니다.");
+        }
+
+        // 1. 토큰 확인
+        if (!queueService.hasToken(eventId, userId)) {
+            throw new IllegalStateException("입장 토큰이 없습니다.");
+        }
+
+        EventSeatMap seatMap = seatAvailabilityIndex.get(eventId);
+
+        for (int round = 0; round < properties.getBestAvailableMaxRounds(); round++) {
+            // 2. 인덱스의 상위 후보 블록 중 사용자별로 하나를 임시 점유 (Pod 안에서는 같은 좌석을 두 번 주지 않음)
+            //    Pod마다 인덱스가 같으므로 최선의 블록만 고르면 모든 Pod가 같은 좌석으로 DB에서 경합함
+            List<UUID> block = seatMap.hold(quantity, properties.getBestAvailableSpread(), userId.hashCode() + round);
+            if (block.isEmpty()) {
+                throw new IllegalStateException("연속으로 남은 좌석이 없습니다.");
+            }
+
+            try {
+                List<ReservationResponse> reserved = confirm(eventId, userId, block);
+                if (reserved != null) {
+                    // 4. 토큰은 커밋 직후 바로 반환 (같은 토큰으로 다시 예매하지 못하도록, 실패 시 소비자가 반환)
+                    //    잔여 좌석 감소 / 다른 Pod 인덱스 동기화는 outbox 소비자가 처리
+                    //    (이 Pod의 인덱스에서는 hold로 이미 빠져 있음)
+                    ReservationService.releaseTokenQuietly(queueService, eventId, userId);
+                    return reserved;
+                }
+
+                // 다른 Pod가 먼저 가져간 좌석은 인덱스에서 제외하고 나머지는 되돌린 뒤 다시 고름
+                // (replica 지연 없이 확인하도록 쓰기 트랜잭션으로 조회)
+                List<Seat> seats = transactionTemplate.execute(status -> seatRepository.findAllById(block));
+                seatMap.markReserved(seats.stream().filter(Seat::isReserved).map(Seat::getId).toList());
+                seatMap.release(seats.stream().filter(seat -> !seat.isReserved()).map(Seat::getId).toList());
+            } catch (RuntimeException e) {
+                // DB 오류(커넥션 타임아웃, 데드락 등)로 끝나면 점유한 블록을 인덱스에 되돌림
+                // 실제로 팔린 좌석이 섞여 있어도 DB 조건부 UPDATE와 주기적 인덱스 보정이 걸러냄
+                seatMap.release(block);
+                throw e;
+            }
+        }
+
+        throw new SeatContentionException();
+    }
+
+    /**
+     * 3. DB 조건부 UPDATE로 블록 전체 확정 - 일부라도 선점당했으면 롤백하고 null
+     */
+    private List<ReservationResponse> confirm(UUID eventId, UUID userId, List<UUID> block) {
+        return transactionTemplate.execute(status -> {
+            if (seatRepository.reserveAllIfAvailable(block) != block.size()) {
+                status.setRollbackOnly();
+                return null;
+            }
+            List<Reservation> reservations = block.stream()
+                    .map(seatId -> new Reservation(eventId, seatId, userId))
+                    .toList();
+            outboxRepository.save(new ReservationOutbox(eventId, userId, block));
+            return reservationRepository.saveAll(reservations).stream()
+                    .map(ReservationResponse::from)
+                    .toList();
+        });
+    }
+}
@@ -0,0 +1,8 @@
+package com.ticketing.reservation.application;
+
+public enum ClaimStrategyType {
+    LOCK,               // Redisson 분산 락 + SELECT FOR UPDATE
+    OPTIMISTIC,         // @Version 낙관적 락 + 재시도
+    CONDITIONAL_UPDATE, // UPDATE ... WHERE status = 'AVAILABLE'
+    INSERT_CONFLICT     // INSERT ... ON CONFLICT DO NOTHING (유니크 제약이 판정)
+}
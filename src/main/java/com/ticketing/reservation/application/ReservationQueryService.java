@@ -0,0 +1,166 @@
+package com.ticketing.reservation.application;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ticketing.reservation.application.dto.EventSalesResponse;
+import com.ticketing.reservation.application.dto.ReservationCursor;
+import com.ticketing.reservation.application.dto.ReservationExportFormat;
+import com.ticketing.reservation.application.dto.ReservationPageResponse;
+import com.ticketing.reservation.application.dto.ReservationResponse;
+import com.ticketing.reservation.domain.Reservation;
+import com.ticketing.reservation.domain.repository.ReservationRepository;
+import com.ticketing.seat.domain.SeatStatus;
+import com.ticketing.seat.domain.repository.SeatRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.util.List;
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ReservationQueryService {
+
+    private final ReservationRepository reservationRepository;
+    private final SeatRepository seatRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int EXPORT_FETCH_SIZE = 1_000;
+
+    private static final String EXPORT_SQL = """
+            SELECT id, event_id, seat_id, user_id, created_at FROM reservations
+            WHERE event_id = ?
+            ORDER BY created_at DESC, id DESC
+            """;
+
+    public ReservationPageResponse getUserReservations(UUID userId, String cursor, int size) {
+        int limit = pageSize(size);
+        List<Reservation> rows = cursor == null
+                ? reservationRepository.findByUserIdOrderByCreatedAtDescIdDesc(userId, Limit.of(limit + 1))
+                : findUserPage(userId, ReservationCursor.decode(cursor), limit + 1);
+        return toPage(rows, limit);
+    }
+
+    public ReservationPageResponse getEventReservations(UUID eventId, String cursor, int size) {
+        int limit = pageSize(size);
+        List<Reservation> rows = cursor == null
+                ? reservationRepository.findByEventIdOrderByCreatedAtDescIdDesc(eventId, Limit.of(limit + 1))
+                : findEventPage(eventId, ReservationCursor.decode(cursor), limit + 1);
+        return toPage(rows, limit);
+    }
+
+    public EventSalesResponse getEventSales(UUID eventId) {
+        return new EventSalesResponse(
+                eventId,
+                seatRepository.countByEventId(eventId),
+                seatRepository.countByEventIdAndStatus(eventId, SeatStatus.RESERVED)
+        );
+    }
+
+    /**
+     * 이벤트 예매 내역 전체를 스트리밍으로 내보낸다.
+     * 서버 측 커서(fetchSize)로 읽어 바로 쓰므로 결과 전체를 힙에 올리지 않는다.
+     */
+    public void exportEventReservations(UUID eventId, ReservationExportFormat format, OutputStream out) {
+        try {
+            switch (format) {
+                case CSV -> exportCsv(eventId, out);
+                case JSON -> exportJson(eventId, out);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void exportCsv(UUID eventId, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writer.write("id,event_id,seat_id,user_id,created_at\n");
+
+        streamRows(eventId, rs -> {
+            try {
+                writer.write(rs.getString("id") + ","
+                        + rs.getString("event_id") + ","
+                        + rs.getString("seat_id") + ","
+                        + rs.getString("user_id") + ","
+                        + rs.getTimestamp("created_at").toLocalDateTime() + "\n");
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        writer.flush();
+    }
+
+    private void exportJson(UUID eventId, OutputStream out) throws IOException {
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8);
+        generator.writeStartArray();
+
+        streamRows(eventId, rs -> {
+            try {
+                generator.writeStartObject();
+                generator.writeStringField("id", rs.getString("id"));
+                generator.writeStringField("eventId", rs.getString("event_id"));
+                generator.writeStringField("seatId", rs.getString("seat_id"));
+                generator.writeStringField("userId", rs.getString("user_id"));
+                generator.writeStringField("createdAt", rs.getTimestamp("created_at").toLocalDateTime().toString());
+                generator.writeEndObject();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+
+        generator.writeEndArray();
+        generator.flush();
+    }
+
+    private void streamRows(UUID eventId, RowCallbackHandler handler) {
+        // fetchSize는 트랜잭션(autocommit off) 안에서만 서버 측 커서로 동작
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(EXPORT_SQL);
+            ps.setFetchSize(EXPORT_FETCH_SIZE);
+            ps.setObject(1, eventId);
+            return ps;
+        }, handler);
+    }
+
+    private List<Reservation> findUserPage(UUID userId, ReservationCursor cursor, int limit) {
+        return reservationRepository.findByUserIdBefore(userId, cursor.createdAt(), cursor.id(), limit);
+    }
+
+    private List<Reservation> findEventPage(UUID eventId, ReservationCursor cursor, int limit) {
+        return reservationRepository.findByEventIdBefore(eventId, cursor.createdAt(), cursor.id(), limit);
+    }
+
+    private ReservationPageResponse toPage(List<Reservation> rows, int limit) {
+        boolean hasNext = rows.size() > limit;
+        List<Reservation> page = hasNext ? rows.subList(0, limit) : rows;
+
+        String nextCursor = hasNext ? ReservationCursor.from(page.get(limit - 1)).encode() : null;
+        return new ReservationPageResponse(
+                page.stream().map(ReservationResponse::from).toList(),
+                nextCursor
+        );
+    }
+
+    private int pageSize(int size) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("페이지 크기는 1 이상이어야 합니다.");
+        }
+        return Math.min(size, MAX_PAGE_SIZE);
+    }
+}
@@ -1,82 +1,90 @@
 package com.ticketing.reservation.application;
 
+import com.ticketing.config.ReservationProperties;
 import com.ticketing.queue.application.QueueService;
 import com.ticketing.reservation.application.dto.ReservationResponse;
-import com.ticketing.reservation.domain.Reservation;
-import com.ticketing.reservation.domain.repository.ReservationRepository;
-import com.ticketing.seat.domain.Seat;
-import com.ticketing.seat.domain.repository.SeatRepository;
+import com.ticketing.reservation.application.strategy.SeatClaimStrategy;
+import com.ticketing.reservation.application.trace.ReservationTracer;
+import com.ticketing.reservation.domain.ReservationOutbox;
+import com.ticketing.reservation.domain.repository.ReservationOutboxRepository;
 import lombok.RequiredArgsConstructor;
-import org.redisson.api.RLock;
-import org.redisson.api.RedissonClient;
-import org.springframework.data.redis.core.StringRedisTemplate;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.List;
 import java.util.UUID;
-import java.util.concurrent.TimeUnit;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class ReservationService {
 
-    private final ReservationRepository reservationRepository;
-    private final SeatRepository seatRepository;
-    private final RedissonClient redissonClient;
-    private final StringRedisTemplate redisTemplate;
+    private final List<SeatClaimStrategy> strategies;
+    private final TransactionTemplate transactionTemplate;
+    private final ReservationOutboxRepository outboxRepository;
     private final QueueService queueService;
+    private final ReservationProperties properties;
+    private final ReservationTracer tracer;
 
-    private static final String LOCK_KEY = "lock:seat:%s:%s";
-    private static final String SEAT_COUNT_KEY = "seat:count:%s";
-
-    @Transactional
     public ReservationResponse reserve(UUID eventId, UUID seatId, UUID userId) {
+        return reserve(strategyOf(properties.getClaimStrategy()), eventId, seatId, userId);
+    }
+
+    ReservationResponse reserve(SeatClaimStrategy strategy, UUID eventId, UUID seatId, UUID userId) {
+        return tracer.reserve(eventId, strategy.type().name(), () -> doReserve(strategy, eventId, seatId, userId));
+    }
+
+    private ReservationResponse doReserve(SeatClaimStrategy strategy, UUID eventId, UUID seatId, UUID userId) {
         // 1. 토큰 확인
-        if (!queueService.hasToken(eventId, userId)) {
+        if (!tracer.stage("token", () -> queueService.hasToken(eventId, userId))) {
             throw new IllegalStateException("입장 토큰이 없습니다.");
         }
 
-        // 2. 분산 락 획득
-        String lockKey = String.format(LOCK_KEY, eventId, seatId);
-        RLock lock = redissonClient.getLock(lockKey);
-
-        try {
-            boolean acquired = lock.tryLock(3, 5, TimeUnit.SECONDS);
-
-            if (!acquired) {
-                throw new IllegalStateException("다른 사용자가 선택 중입니다.");
-            }
-
-            // 3. 좌석 상태 확인 (DB 락)
-            Seat seat = seatRepository.findByIdForUpdate(seatId)
-                    .orElseThrow(() -> new IllegalArgumentException("좌석을 찾을 수 없습니다."));
-
-            if (seat.isReserved()) {
-                throw new IllegalStateException("이미 예매된 좌석입니다.");
-            }
+        // 2 ~ 6. 좌석 선점 + 예매 정보 + 후처리 이벤트 저장 (DB 트랜잭션) - 단계는 각 선점 방식에서 기록
+        // 잔여 좌석 감소 / 빈 좌석 인덱스 동기화는 outbox → reservation-events 소비자가 처리
+        ReservationResponse response = claim(strategy, eventId, seatId, userId);
 
-            // 4. 좌석 예매 처리
-            seat.reserve();
+        // 7. 토큰 반환 - 소비자를 기다리는 동안 같은 토큰으로 다시 예매하지 못하도록 커밋 직후 바로 반환
+        tracer.stage("release", () -> releaseTokenQuietly(queueService, eventId, userId));
 
-            // 5. 예매 정보 저장
-            Reservation reservation = new Reservation(eventId, seatId, userId);
-            reservationRepository.save(reservation);
-
-            // 6. Redis 잔여 좌석 감소
-            String seatCountKey = String.format(SEAT_COUNT_KEY, eventId);
-            redisTemplate.opsForValue().decrement(seatCountKey);
+        return response;
+    }
 
-            // 7. 토큰 반환
+    /**
+     * 토큰 반환 (best-effort). 실패해도 예매는 이미 커밋됐으므로 토큰은 TTL로 만료된다.
+     */
+    static void releaseTokenQuietly(QueueService queueService, UUID eventId, UUID userId) {
+        try {
             queueService.releaseToken(eventId, userId);
+        } catch (RuntimeException e) {
+            log.warn("Token release failed, left to expire: eventId={}, userId={}", eventId, userId);
+        }
+    }
 
-            return ReservationResponse.from(reservation);
+    SeatClaimStrategy strategyOf(ClaimStrategyType type) {
+        return strategies.stream()
+                .filter(strategy -> strategy.type() == type)
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("지원하지 않는 선점 방식입니다: " + type));
+    }
 
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            throw new IllegalStateException("락 획득 중 인터럽트 발생");
-        } finally {
-            if (lock.isHeldByCurrentThread()) {
-                lock.unlock();
+    private ReservationResponse claim(SeatClaimStrategy strategy, UUID eventId, UUID seatId, UUID userId) {
+        // 낙관적 락 충돌 시 새 트랜잭션으로 재시도 - 재시도에서는 보통 "이미 예매된 좌석"으로 끝남
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> {
+                    tracer.observeCommit();
+                    ReservationResponse response = strategy.claim(eventId, seatId, userId);
+                    ReservationOutbox outbox = new ReservationOutbox(eventId, userId, List.of(seatId));
+                    tracer.stage("outbox", () -> outboxRepository.save(outbox));
+                    return response;
+                });
+            } catch (OptimisticLockingFailureException e) {
+                if (attempt >= strategy.maxAttempts()) {
+                    throw new SeatContentionException();
+                }
             }
         }
     }
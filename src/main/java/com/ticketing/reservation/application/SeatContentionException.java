@@ -0,0 +1,12 @@
+package com.ticketing.reservation.application;
+
+/**
+ * 좌석 경합으로 선점하지 못한 경우 (락 대기 초과, 낙관적 락 재시도 소진, 자동 배정 라운드 소진).
+ * 매진 / 중복 예매 같은 업무 결과와 달리 부하가 몰렸다는 신호이므로 적응형 한도 계산에 반영한다.
+ */
+public class SeatContentionException extends IllegalStateException {
+
+    public SeatContentionException() {
+        super("다른 사용자가 선택 중입니다.");
+    }
+}
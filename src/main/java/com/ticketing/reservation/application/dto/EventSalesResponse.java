@@ -0,0 +1,9 @@
+package com.ticketing.reservation.application.dto;
+
+import java.util.UUID;
+
+public record EventSalesResponse(
+        UUID eventId,
+        long totalSeats,
+        long soldSeats
+) {}
@@ -0,0 +1,40 @@
+package com.ticketing.reservation.application.dto;
+
+import com.ticketing.reservation.domain.Reservation;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * keyset 페이지네이션 커서 - 마지막으로 내려준 (createdAt, id)
+ */
+public record ReservationCursor(
+        LocalDateTime createdAt,
+        UUID id
+) {
+    private static final String DELIMITER = "|";
+
+    public static ReservationCursor from(Reservation reservation) {
+        return new ReservationCursor(reservation.getCreatedAt(), reservation.getId());
+    }
+
+    public static ReservationCursor decode(String cursor) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int idx = decoded.indexOf(DELIMITER);
+            return new ReservationCursor(
+                    LocalDateTime.parse(decoded.substring(0, idx)),
+                    UUID.fromString(decoded.substring(idx + 1))
+            );
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+    }
+
+    public String encode() {
+        String raw = createdAt + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,6 @@
+package com.ticketing.reservation.application.dto;
+
+public enum ReservationExportFormat {
+    CSV,
+    JSON
+}
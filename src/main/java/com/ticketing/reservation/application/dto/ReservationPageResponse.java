@@ -0,0 +1,8 @@
+package com.ticketing.reservation.application.dto;
+
+import java.util.List;
+
+public record ReservationPageResponse(
+        List<ReservationResponse> reservations,
+        String nextCursor
+) {}
@@ -0,0 +1,189 @@
+package com.ticketing.reservation.application.outbox;
+
+import com.ticketing.config.OutboxProperties;
+import com.ticketing.queue.application.cluster.PodMembership;
+import com.ticketing.seat.application.index.SeatAvailabilityIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.RedisSystemException;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.PendingMessages;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * reservation-events를 consumer group으로 나눠 읽어 예매 후처리를 실행한다.
+ * 메시지 하나는 그룹 안의 한 Pod만 처리하고, 처리 후 ack한다.
+ *
+ * - 잔여 좌석 감소: outboxId별 처리 완료 키로 중복 감소 방지 (이벤트별로 묶어 스크립트 한 번)
+ * - 빈 좌석 인덱스: 이벤트별로 모아 로컬 반영 + Pub/Sub으로 다른 Pod에 전파
+ *
+ * 처리 도중 Pod가 죽으면 ack되지 않은 메시지를 claim-idle-ms 후 다른 Pod가 가져간다.
+ * 토큰 반환은 예매 커밋 직후 요청 스레드에서 처리한다 - 늦게 처리되는 메시지가 사용자가 다시 받은 새 토큰을 지우지 않도록.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReservationEventConsumer {
+
+    public static final String GROUP = "reservation-side-effects";
+
+    private static final String SEAT_COUNT_KEY = "seat:count:%s";
+    private static final String DONE_KEY = "outbox:done:%s";
+
+    // KEYS[1] = 잔여 좌석 카운트, KEYS[2..] = 처리 완료 키 / ARGV[1] = TTL, ARGV[2..] = 좌석 수
+    // 처음 처리하는 메시지의 좌석 수만 합쳐서 감소 (종료 정리로 카운터가 지워졌으면 다시 만들지 않음)
+    private static final DefaultRedisScript<Long> DECREMENT_ONCE_SCRIPT = new DefaultRedisScript<>("""
+            local ttl = tonumber(ARGV[1])
+            local total = 0
+            for i = 2, #KEYS do
+                if redis.call('SET', KEYS[i], 1, 'NX', 'EX', ttl) then
+                    total = total + tonumber(ARGV[i])
+                end
+            end
+            if total > 0 and redis.call('EXISTS', KEYS[1]) == 1 then
+                redis.call('DECRBY', KEYS[1], total)
+            end
+            return total
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final SeatAvailabilityIndex seatAvailabilityIndex;
+    private final PodMembership membership;
+    private final OutboxProperties properties;
+
+    private volatile boolean groupReady;
+
+    @Scheduled(fixedDelay = 100)
+    public void consume() {
+        try {
+            ensureGroup();
+            List<MapRecord<String, Object, Object>> records = redisTemplate.opsForStream().read(
+                    Consumer.from(GROUP, membership.getPodId()),
+                    StreamReadOptions.empty().count(properties.getConsumerBatchSize()),
+                    StreamOffset.create(ReservationOutboxRelay.STREAM_KEY, ReadOffset.lastConsumed())
+            );
+            handle(records);
+        } catch (DataAccessException e) {
+            onFailure(e);
+        }
+    }
+
+    /**
+     * 오래 ack되지 않은 메시지(처리 중 죽은 Pod 몫)를 가져와 처리한다.
+     */
+    @Scheduled(fixedDelay = 10000)
+    public void claimStale() {
+        try {
+            ensureGroup();
+            PendingMessages pending = redisTemplate.opsForStream().pending(
+                    ReservationOutboxRelay.STREAM_KEY, GROUP, Range.unbounded(), properties.getConsumerBatchSize());
+            Duration minIdle = Duration.ofMillis(properties.getClaimIdleMs());
+            RecordId[] stale = pending.stream()
+                    .filter(message -> message.getElapsedTimeSinceLastDelivery().compareTo(minIdle) >= 0)
+                    .map(PendingMessage::getId)
+                    .toArray(RecordId[]::new);
+            if (stale.length == 0) {
+                return;
+            }
+            handle(redisTemplate.opsForStream().claim(
+                    ReservationOutboxRelay.STREAM_KEY, GROUP, membership.getPodId(), minIdle, stale));
+        } catch (DataAccessException e) {
+            onFailure(e);
+        }
+    }
+
+    private void handle(List<MapRecord<String, Object, Object>> records) {
+        if (records == null || records.isEmpty()) {
+            return;
+        }
+
+        Map<UUID, List<ReservedEvent>> byEvent = new LinkedHashMap<>();
+        List<RecordId> handled = new ArrayList<>(records.size());
+        for (MapRecord<String, Object, Object> record : records) {
+            handled.add(record.getId());
+            try {
+                ReservedEvent event = ReservedEvent.from(record.getValue());
+                byEvent.computeIfAbsent(event.eventId(), id -> new ArrayList<>()).add(event);
+            } catch (RuntimeException e) {
+                // 형식이 잘못된 메시지는 다시 읽어도 실패하므로 ack하고 넘김
+                log.warn("Invalid reservation event: {}", record.getId());
+            }
+        }
+
+        byEvent.forEach(this::apply);
+        redisTemplate.opsForStream().acknowledge(
+                ReservationOutboxRelay.STREAM_KEY, GROUP, handled.toArray(RecordId[]::new));
+    }
+
+    private void apply(UUID eventId, List<ReservedEvent> events) {
+        List<String> keys = new ArrayList<>(events.size() + 1);
+        List<String> args = new ArrayList<>(events.size() + 1);
+        keys.add(String.format(SEAT_COUNT_KEY, eventId));
+        args.add(String.valueOf(properties.getDedupeTtlSeconds()));
+        List<UUID> seatIds = new ArrayList<>();
+        for (ReservedEvent event : events) {
+            keys.add(String.format(DONE_KEY, event.outboxId()));
+            args.add(String.valueOf(event.seatIds().size()));
+            seatIds.addAll(event.seatIds());
+        }
+
+        redisTemplate.execute(DECREMENT_ONCE_SCRIPT, keys, args.toArray());
+        seatAvailabilityIndex.markReserved(eventId, seatIds);
+    }
+
+    private void ensureGroup() {
+        if (groupReady) {
+            return;
+        }
+        try {
+            redisTemplate.opsForStream().createGroup(ReservationOutboxRelay.STREAM_KEY, ReadOffset.from("0"), GROUP);
+        } catch (RedisSystemException e) {
+            if (!String.valueOf(e.getMostSpecificCause().getMessage()).contains("BUSYGROUP")) {
+                throw e;
+            }
+        }
+        groupReady = true;
+    }
+
+    private void onFailure(DataAccessException e) {
+        // stream / 그룹이 지워졌으면(FLUSH 등) 다음 주기에 다시 생성
+        if (String.valueOf(e.getMostSpecificCause().getMessage()).contains("NOGROUP")) {
+            groupReady = false;
+            return;
+        }
+        log.warn("Skip reservation event consumption: {}", e.getMessage());
+    }
+
+    private record ReservedEvent(long outboxId, UUID userId, UUID eventId, List<UUID> seatIds) {
+
+        static ReservedEvent from(Map<Object, Object> fields) {
+            return new ReservedEvent(
+                    Long.parseLong((String) fields.get(ReservationStreamFields.OUTBOX_ID)),
+                    UUID.fromString((String) fields.get(ReservationStreamFields.USER_ID)),
+                    UUID.fromString((String) fields.get(ReservationStreamFields.EVENT_ID)),
+                    Arrays.stream(((String) fields.get(ReservationStreamFields.SEAT_IDS)).split(","))
+                            .map(UUID::fromString)
+                            .toList()
+            );
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.ticketing.reservation.application.outbox;
+
+import com.ticketing.config.OutboxProperties;
+import com.ticketing.reservation.domain.ReservationOutbox;
+import com.ticketing.reservation.domain.repository.ReservationOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.RedisStreamCommands.XAddOptions;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * outbox 행을 Redis Stream(reservation-events)으로 배치 발행한다.
+ *
+ * 배치를 잠그고(SKIP LOCKED) → 파이프라인 XADD 한 번 → 같은 트랜잭션에서 삭제.
+ * XADD 후 커밋 전에 실패하면 같은 행이 다시 발행될 수 있으므로, 소비자는 outboxId로 중복을 걸러낸다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReservationOutboxRelay {
+
+    public static final String STREAM_KEY = "reservation-events";
+
+    private final ReservationOutboxRepository outboxRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final StringRedisTemplate redisTemplate;
+    private final OutboxProperties properties;
+
+    @Scheduled(fixedDelay = 100)
+    public void relay() {
+        try {
+            for (int i = 0; i < properties.getRelayMaxBatches(); i++) {
+                Integer published = transactionTemplate.execute(status -> publishBatch());
+                if (published == null || published < properties.getRelayBatchSize()) {
+                    return;
+                }
+            }
+        } catch (DataAccessException e) {
+            // Redis / DB 장애 - 행은 그대로 남아 다음 주기에 다시 발행
+            log.warn("Skip outbox relay: {}", e.getMessage());
+        }
+    }
+
+    private int publishBatch() {
+        List<ReservationOutbox> batch = outboxRepository.lockNextBatch(properties.getRelayBatchSize());
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        XAddOptions options = XAddOptions.maxlen(properties.getStreamMaxLength()).approximateTrimming(true);
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            for (ReservationOutbox outbox : batch) {
+                stringConnection.xAdd(StreamRecords.string(fieldsOf(outbox)).withStreamKey(STREAM_KEY), options);
+            }
+            return null;
+        });
+
+        outboxRepository.deleteAllByIdInBatch(batch.stream().map(ReservationOutbox::getId).toList());
+        return batch.size();
+    }
+
+    private static Map<String, String> fieldsOf(ReservationOutbox outbox) {
+        return Map.of(
+                ReservationStreamFields.TYPE, ReservationStreamFields.RESERVED,
+                ReservationStreamFields.OUTBOX_ID, String.valueOf(outbox.getId()),
+                ReservationStreamFields.EVENT_ID, outbox.getEventId().toString(),
+                ReservationStreamFields.USER_ID, outbox.getUserId().toString(),
+                ReservationStreamFields.SEAT_IDS, outbox.getSeatIds(),
+                ReservationStreamFields.CREATED_AT, outbox.getCreatedAt().toString()
+        );
+    }
+}
@@ -0,0 +1,19 @@
+package com.ticketing.reservation.application.outbox;
+
+/**
+ * reservation-events stream 메시지 필드. 다른 시스템도 같은 stream을 별도 consumer group으로 읽을 수 있다.
+ */
+public final class ReservationStreamFields {
+
+    public static final String TYPE = "type";
+    public static final String OUTBOX_ID = "outboxId";
+    public static final String EVENT_ID = "eventId";
+    public static final String USER_ID = "userId";
+    public static final String SEAT_IDS = "seatIds";   // 쉼표로 구분
+    public static final String CREATED_AT = "createdAt";
+
+    public static final String RESERVED = "RESERVED";
+
+    private ReservationStreamFields() {
+    }
+}
@@ -0,0 +1,44 @@
+package com.ticketing.reservation.application.strategy;
+
+import com.ticketing.reservation.application.ClaimStrategyType;
+import com.ticketing.reservation.application.dto.ReservationResponse;
+import com.ticketing.reservation.application.trace.ReservationTracer;
+import com.ticketing.reservation.domain.Reservation;
+import com.ticketing.reservation.domain.repository.ReservationRepository;
+import com.ticketing.seat.domain.repository.SeatRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+@Component
+@RequiredArgsConstructor
+public class ConditionalUpdateClaimStrategy implements SeatClaimStrategy {
+
+    private final ReservationRepository reservationRepository;
+    private final SeatRepository seatRepository;
+    private final ReservationTracer tracer;
+
+    @Override
+    public ClaimStrategyType type() {
+        return ClaimStrategyType.CONDITIONAL_UPDATE;
+    }
+
+    @Override
+    public ReservationResponse claim(UUID eventId, UUID seatId, UUID userId) {
+        // 조건부 UPDATE - 행 락은 UPDATE 순간에만 잡히고, 늦게 온 요청은 0건으로 끝남
+        int updated = tracer.stage("update", () -> seatRepository.reserveIfAvailable(seatId));
+
+        if (updated == 0) {
+            if (!seatRepository.existsById(seatId)) {
+                throw new IllegalArgumentException("좌석을 찾을 수 없습니다.");
+            }
+            throw new IllegalStateException("이미 예매된 좌석입니다.");
+        }
+
+        Reservation reservation = new Reservation(eventId, seatId, userId);
+        tracer.stage("insert", () -> reservationRepository.saveAndFlush(reservation));
+
+        return ReservationResponse.from(reservation);
+    }
+}
@@ -0,0 +1,81 @@
+package com.ticketing.reservation.application.strategy;
+
+import com.ticketing.reservation.application.ClaimStrategyType;
+import com.ticketing.reservation.application.SeatContentionException;
+import com.ticketing.reservation.application.dto.ReservationResponse;
+import com.ticketing.reservation.application.trace.ReservationTracer;
+import com.ticketing.reservation.domain.Reservation;
+import com.ticketing.reservation.domain.repository.ReservationRepository;
+import com.ticketing.seat.domain.Seat;
+import com.ticketing.seat.domain.repository.SeatRepository;
+import lombok.RequiredArgsConstructor;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@Component
+@RequiredArgsConstructor
+public class DistributedLockClaimStrategy implements SeatClaimStrategy {
+
+    private final ReservationRepository reservationRepository;
+    private final SeatRepository seatRepository;
+    private final RedissonClient redissonClient;
+    private final ReservationTracer tracer;
+
+    private static final String LOCK_KEY = "lock:seat:%s:%s";
+
+    @Override
+    public ClaimStrategyType type() {
+        return ClaimStrategyType.LOCK;
+    }
+
+    @Override
+    public ReservationResponse claim(UUID eventId, UUID seatId, UUID userId) {
+        // 분산 락 획득
+        String lockKey = String.format(LOCK_KEY, eventId, seatId);
+        RLock lock = redissonClient.getLock(lockKey);
+
+        try {
+            boolean acquired = tracer.stage("lock", () -> tryLock(lock));
+
+            if (!acquired) {
+                throw new SeatContentionException();
+            }
+
+            // 좌석 상태 확인 (DB 락)
+            Seat seat = tracer.stage("select", () -> seatRepository.findByIdForUpdate(seatId))
+                    .orElseThrow(() -> new IllegalArgumentException("좌석을 찾을 수 없습니다."));
+
+            if (seat.isReserved()) {
+                throw new IllegalStateException("이미 예매된 좌석입니다.");
+            }
+
+            // 좌석 예매 처리 + 예매 정보 저장 - 단계별 시간을 보기 위해 커밋 전에 flush
+            tracer.stage("update", () -> {
+                seat.reserve();
+                seatRepository.flush();
+            });
+            Reservation reservation = new Reservation(eventId, seatId, userId);
+            tracer.stage("insert", () -> reservationRepository.saveAndFlush(reservation));
+
+            return ReservationResponse.from(reservation);
+
+        } finally {
+            if (lock.isHeldByCurrentThread()) {
+                lock.unlock();
+            }
+        }
+    }
+
+    private boolean tryLock(RLock lock) {
+        try {
+            return lock.tryLock(3, 5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("락 획득 중 인터럽트 발생");
+        }
+    }
+}
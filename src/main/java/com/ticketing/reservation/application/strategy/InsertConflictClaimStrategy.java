@@ -0,0 +1,45 @@
+package com.ticketing.reservation.application.strategy;
+
+import com.ticketing.reservation.application.ClaimStrategyType;
+import com.ticketing.reservation.application.dto.ReservationResponse;
+import com.ticketing.reservation.application.trace.ReservationTracer;
+import com.ticketing.reservation.domain.repository.ReservationRepository;
+import com.ticketing.seat.domain.repository.SeatRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Component
+@RequiredArgsConstructor
+public class InsertConflictClaimStrategy implements SeatClaimStrategy {
+
+    private final ReservationRepository reservationRepository;
+    private final SeatRepository seatRepository;
+    private final ReservationTracer tracer;
+
+    @Override
+    public ClaimStrategyType type() {
+        return ClaimStrategyType.INSERT_CONFLICT;
+    }
+
+    @Override
+    public ReservationResponse claim(UUID eventId, UUID seatId, UUID userId) {
+        // 락 / SELECT FOR UPDATE 없이 INSERT 한 문장으로 선점 - 유니크 제약이 충돌 판정
+        UUID reservationId = UUID.randomUUID();
+        LocalDateTime createdAt = LocalDateTime.now();
+
+        int claimed = tracer.stage("insert",
+                () -> reservationRepository.insertIfAvailable(reservationId, eventId, seatId, userId, createdAt));
+
+        if (claimed == 0) {
+            if (!seatRepository.existsById(seatId)) {
+                throw new IllegalArgumentException("좌석을 찾을 수 없습니다.");
+            }
+            throw new IllegalStateException("이미 예매된 좌석입니다.");
+        }
+
+        return new ReservationResponse(reservationId, eventId, seatId, userId, createdAt);
+    }
+}
@@ -0,0 +1,55 @@
+package com.ticketing.reservation.application.strategy;
+
+import com.ticketing.config.ReservationProperties;
+import com.ticketing.reservation.application.ClaimStrategyType;
+import com.ticketing.reservation.application.dto.ReservationResponse;
+import com.ticketing.reservation.application.trace.ReservationTracer;
+import com.ticketing.reservation.domain.Reservation;
+import com.ticketing.reservation.domain.repository.ReservationRepository;
+import com.ticketing.seat.domain.Seat;
+import com.ticketing.seat.domain.repository.SeatRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+@Component
+@RequiredArgsConstructor
+public class OptimisticClaimStrategy implements SeatClaimStrategy {
+
+    private final ReservationRepository reservationRepository;
+    private final SeatRepository seatRepository;
+    private final ReservationProperties properties;
+    private final ReservationTracer tracer;
+
+    @Override
+    public ClaimStrategyType type() {
+        return ClaimStrategyType.OPTIMISTIC;
+    }
+
+    @Override
+    public ReservationResponse claim(UUID eventId, UUID seatId, UUID userId) {
+        // 락 없이 조회 - 충돌은 flush 시점의 version 비교로 감지
+        Seat seat = tracer.stage("select", () -> seatRepository.findById(seatId))
+                .orElseThrow(() -> new IllegalArgumentException("좌석을 찾을 수 없습니다."));
+
+        if (seat.isReserved()) {
+            throw new IllegalStateException("이미 예매된 좌석입니다.");
+        }
+
+        tracer.stage("update", () -> {
+            seat.reserve();
+            seatRepository.flush();  // UPDATE ... WHERE version = ? → 0건이면 ObjectOptimisticLockingFailureException
+        });
+
+        Reservation reservation = new Reservation(eventId, seatId, userId);
+        tracer.stage("insert", () -> reservationRepository.saveAndFlush(reservation));
+
+        return ReservationResponse.from(reservation);
+    }
+
+    @Override
+    public int maxAttempts() {
+        return properties.getOptimisticMaxAttempts();
+    }
+}
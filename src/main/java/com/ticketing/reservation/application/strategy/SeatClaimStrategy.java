@@ -0,0 +1,24 @@
+package com.ticketing.reservation.application.strategy;
+
+import com.ticketing.reservation.application.ClaimStrategyType;
+import com.ticketing.reservation.application.dto.ReservationResponse;
+
+import java.util.UUID;
+
+/**
+ * 좌석 선점 방식.
+ * claim은 호출자가 연 트랜잭션 안에서 실행되며, 좌석 상태 변경과 예매 INSERT까지 담당한다.
+ */
+public interface SeatClaimStrategy {
+
+    ClaimStrategyType type();
+
+    ReservationResponse claim(UUID eventId, UUID seatId, UUID userId);
+
+    /**
+     * OptimisticLockingFailureException 발생 시 새 트랜잭션으로 시도할 최대 횟수.
+     */
+    default int maxAttempts() {
+        return 1;
+    }
+}
@@ -0,0 +1,76 @@
+package com.ticketing.reservation.application.trace;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * 예매 파이프라인 단계별 Observation 생성.
+ * 전체 요청은 reservation.reserve, 각 단계는 reservation.stage(stage 태그)로 기록되며
+ * 트레이싱이 켜져 있으면 부모-자식 span으로 OTLP collector에 전송된다.
+ * 부모는 생성 시점의 현재 Observation - 단계는 reserve 안에서 호출해야 요청별로 묶인다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ReservationTracer {
+
+    public static final String RESERVE = "reservation.reserve";
+    public static final String STAGE = "reservation.stage";
+    public static final String STAGE_KEY = "stage";
+
+    private final ObservationRegistry registry;
+
+    public <T> T reserve(UUID eventId, String strategy, Supplier<T> body) {
+        return Observation.createNotStarted(RESERVE, registry)
+                .lowCardinalityKeyValue("strategy", strategy)
+                .highCardinalityKeyValue("event.id", eventId.toString())
+                .observe(body);
+    }
+
+    public <T> T stage(String stage, Supplier<T> body) {
+        return stageObservation(stage).observe(body);
+    }
+
+    public void stage(String stage, Runnable body) {
+        stageObservation(stage).observe(body);
+    }
+
+    /**
+     * 현재 트랜잭션의 커밋(flush 포함) 구간을 commit 단계로 기록한다.
+     */
+    public void observeCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        Observation commit = stageObservation("commit");
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            private boolean started;
+
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                commit.start();
+                started = true;
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                // 롤백 등으로 beforeCommit이 호출되지 않았으면 기록하지 않음
+                if (started) {
+                    commit.stop();
+                }
+            }
+        });
+    }
+
+    private Observation stageObservation(String stage) {
+        return Observation.createNotStarted(STAGE, registry)
+                .lowCardinalityKeyValue(STAGE_KEY, stage)
+                .contextualName("reservation " + stage);
+    }
+}
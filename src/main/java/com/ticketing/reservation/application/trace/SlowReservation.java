@@ -0,0 +1,19 @@
+package com.ticketing.reservation.application.trace;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * 느린 예매 요청 한 건 - 단계별 소요 시간(ms)과 trace id.
+ * trace id로 collector(Jaeger 등)에서 같은 요청의 span을 찾을 수 있다.
+ */
+public record SlowReservation(
+        String traceId,
+        String eventId,
+        String strategy,
+        String outcome,
+        long totalMs,
+        Map<String, Long> stagesMs,
+        Instant startedAt
+) {
+}
@@ -0,0 +1,24 @@
+package com.ticketing.reservation.application.trace;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * GET /actuator/slowreservations - 최근 가장 느린 예매 요청과 단계별 시간.
+ */
+@Component
+@Endpoint(id = "slowreservations")
+@RequiredArgsConstructor
+public class SlowReservationEndpoint {
+
+    private final SlowReservationSampler sampler;
+
+    @ReadOperation
+    public List<SlowReservation> slowest() {
+        return sampler.slowest();
+    }
+}
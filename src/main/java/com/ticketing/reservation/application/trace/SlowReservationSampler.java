@@ -0,0 +1,216 @@
+package com.ticketing.reservation.application.trace;
+
+import com.ticketing.config.ObservedDataSource;
+import com.ticketing.config.TracingProperties;
+import io.micrometer.common.KeyValue;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationHandler;
+import io.micrometer.observation.ObservationView;
+import io.micrometer.tracing.handler.TracingObservationHandler;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 가장 느린 예매 요청을 단계별 시간과 함께 보관하는 tail 샘플러.
+ *
+ * 모든 reservation.reserve Observation의 종료 시점에 전체 시간을 보고 상위 K건만 남긴다.
+ * 단계(reservation.stage)와 커넥션 대기(db.connection.acquire)는 가장 가까운 reserve 요청에 합산된다.
+ * 단계 안에서 일어난 커넥션 대기처럼 중첩된 시간은 바깥 단계에서 빼고 안쪽 이름으로만 기록하므로,
+ * 단계별 시간의 합은 전체 시간을 넘지 않는다.
+ * 트레이스 export 여부(head 샘플링)와 상관없이 동작하므로, collector가 없어도 p95가 어디서 생기는지 확인할 수 있다.
+ */
+@Slf4j
+@Component
+public class SlowReservationSampler implements ObservationHandler<Observation.Context> {
+
+    private static final Comparator<SlowReservation> BY_TOTAL = Comparator.comparingLong(SlowReservation::totalMs);
+
+    private final TracingProperties properties;
+
+    private PriorityQueue<SlowReservation> current = new PriorityQueue<>(BY_TOTAL);
+    private PriorityQueue<SlowReservation> previous = new PriorityQueue<>(BY_TOTAL);
+    private long windowStartedAt = System.currentTimeMillis();
+
+    public SlowReservationSampler(TracingProperties properties) {
+        this.properties = properties;
+    }
+
+    @Override
+    public boolean supportsContext(Observation.Context context) {
+        String name = context.getName();
+        return ReservationTracer.RESERVE.equals(name)
+                || ReservationTracer.STAGE.equals(name)
+                || ObservedDataSource.CONNECTION_ACQUIRE.equals(name);
+    }
+
+    @Override
+    public void onStart(Observation.Context context) {
+        context.put(Timing.class, new Timing(System.nanoTime()));
+    }
+
+    @Override
+    public void onStop(Observation.Context context) {
+        Timing timing = context.get(Timing.class);
+        if (timing == null) {
+            return;
+        }
+        long elapsedNanos = System.nanoTime() - timing.startNanos;
+
+        if (ReservationTracer.RESERVE.equals(context.getName())) {
+            offer(toEntry(context, timing, elapsedNanos));
+            return;
+        }
+
+        Timing root = rootTiming(context);
+        if (root == null) {
+            return;
+        }
+        // 자기 시간만 기록하고, 바깥 단계에는 중첩 시간으로 알림 (select 안의 connection 이중 집계 방지)
+        root.add(stageOf(context), elapsedNanos - timing.nestedNanos());
+        Timing enclosing = enclosingTiming(context);
+        if (enclosing != null && enclosing != root) {
+            enclosing.addNested(elapsedNanos);
+        }
+    }
+
+    /**
+     * 현재 구간과 직전 구간에서 가장 느린 요청 (느린 순).
+     */
+    public List<SlowReservation> slowest() {
+        synchronized (this) {
+            rotateIfExpired();
+            List<SlowReservation> result = new ArrayList<>(current);
+            result.addAll(previous);
+            result.sort(BY_TOTAL.reversed());
+            return result.size() > properties.getSlowTopK()
+                    ? List.copyOf(result.subList(0, properties.getSlowTopK()))
+                    : result;
+        }
+    }
+
+    void offer(SlowReservation entry) {
+        if (entry.totalMs() >= properties.getSlowLogThresholdMs()) {
+            log.warn("느린 예매 요청: {}ms, trace={}, stages={}", entry.totalMs(), entry.traceId(), entry.stagesMs());
+        }
+        synchronized (this) {
+            rotateIfExpired();
+            if (current.size() < properties.getSlowTopK()) {
+                current.add(entry);
+            } else if (current.peek().totalMs() < entry.totalMs()) {
+                current.poll();
+                current.add(entry);
+            }
+        }
+    }
+
+    private void rotateIfExpired() {
+        long now = System.currentTimeMillis();
+        if (now - windowStartedAt < TimeUnit.SECONDS.toMillis(properties.getSlowWindowSeconds())) {
+            return;
+        }
+        // 한 구간 이상 비어 있었으면 직전 구간도 버림
+        boolean skipped = now - windowStartedAt >= 2 * TimeUnit.SECONDS.toMillis(properties.getSlowWindowSeconds());
+        previous = skipped ? new PriorityQueue<>(BY_TOTAL) : current;
+        current = new PriorityQueue<>(BY_TOTAL);
+        windowStartedAt = now;
+    }
+
+    private SlowReservation toEntry(Observation.Context context, Timing timing, long elapsedNanos) {
+        String outcome = context.getError() == null ? "success" : context.getError().getClass().getSimpleName();
+        return new SlowReservation(
+                traceIdOf(context),
+                valueOf(context.getHighCardinalityKeyValue("event.id")),
+                valueOf(context.getLowCardinalityKeyValue("strategy")),
+                outcome,
+                TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+                timing.stagesMs(),
+                Instant.now().minusNanos(elapsedNanos)
+        );
+    }
+
+    private static Timing rootTiming(Observation.Context context) {
+        ObservationView parent = context.getParentObservation();
+        while (parent != null) {
+            Observation.ContextView view = parent.getContextView();
+            if (ReservationTracer.RESERVE.equals(view.getName())) {
+                return view.get(Timing.class);
+            }
+            parent = view.getParentObservation();
+        }
+        return null;
+    }
+
+    // 가장 가까운 바깥 단계 / reserve의 Timing
+    private static Timing enclosingTiming(Observation.Context context) {
+        ObservationView parent = context.getParentObservation();
+        while (parent != null) {
+            Timing timing = parent.getContextView().get(Timing.class);
+            if (timing != null) {
+                return timing;
+            }
+            parent = parent.getContextView().getParentObservation();
+        }
+        return null;
+    }
+
+    private static String stageOf(Observation.Context context) {
+        if (ObservedDataSource.CONNECTION_ACQUIRE.equals(context.getName())) {
+            return "connection";
+        }
+        return valueOf(context.getLowCardinalityKeyValue(ReservationTracer.STAGE_KEY));
+    }
+
+    private static String traceIdOf(Observation.Context context) {
+        TracingObservationHandler.TracingContext tracing = context.get(TracingObservationHandler.TracingContext.class);
+        if (tracing == null || tracing.getSpan() == null) {
+            return null;
+        }
+        return tracing.getSpan().context().traceId();
+    }
+
+    private static String valueOf(KeyValue keyValue) {
+        return keyValue == null ? null : keyValue.getValue();
+    }
+
+    /**
+     * Observation 시작 시각, 안쪽에 중첩된 단계 시간, reserve 요청이면 하위 단계별 누적 시간.
+     * 단계는 요청 스레드에서 순서대로 끝나지만 커밋 콜백 등을 고려해 동기화한다.
+     */
+    private static final class Timing {
+
+        private final long startNanos;
+        private final Map<String, Long> stageNanos = new LinkedHashMap<>();
+        private long nestedNanos;
+
+        private Timing(long startNanos) {
+            this.startNanos = startNanos;
+        }
+
+        private synchronized void add(String stage, long nanos) {
+            stageNanos.merge(stage, nanos, Long::sum);
+        }
+
+        private synchronized void addNested(long nanos) {
+            nestedNanos += nanos;
+        }
+
+        private synchronized long nestedNanos() {
+            return nestedNanos;
+        }
+
+        private synchronized Map<String, Long> stagesMs() {
+            Map<String, Long> result = new LinkedHashMap<>();
+            stageNanos.forEach((stage, nanos) -> result.put(stage, TimeUnit.NANOSECONDS.toMillis(nanos)));
+            return result;
+        }
+    }
+}
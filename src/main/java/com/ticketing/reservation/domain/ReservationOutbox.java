@@ -0,0 +1,45 @@
+package com.ticketing.reservation.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * 예매 확정 후처리 이벤트 (transactional outbox).
+ * 예매와 같은 트랜잭션에 저장되므로, 커밋된 예매는 후처리가 반드시 한 번 이상 발행된다.
+ */
+@Entity
+@Table(name = "reservation_outbox")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ReservationOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private UUID eventId;
+
+    @Column(nullable = false)
+    private UUID userId;
+
+    @Column(nullable = false)
+    private String seatIds;  // 쉼표로 구분한 좌석 ID (자동 배정은 여러 석)
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    public ReservationOutbox(UUID eventId, UUID userId, Collection<UUID> seatIds) {
+        this.eventId = eventId;
+        this.userId = userId;
+        this.seatIds = seatIds.stream().map(UUID::toString).collect(Collectors.joining(","));
+        this.createdAt = LocalDateTime.now();
+    }
+}
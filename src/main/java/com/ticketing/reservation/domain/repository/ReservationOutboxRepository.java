@@ -0,0 +1,25 @@
+package com.ticketing.reservation.domain.repository;
+
+import com.ticketing.reservation.domain.ReservationOutbox;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface ReservationOutboxRepository extends JpaRepository<ReservationOutbox, Long> {
+
+    /**
+     * 발행할 배치를 잠그고 가져온다.
+     * 다른 Pod가 잡은 행은 건너뛰므로(SKIP LOCKED) 여러 Pod가 동시에 relay해도 같은 행을 두 번 발행하지 않는다.
+     */
+    @Query(value = """
+            SELECT * FROM reservation_outbox
+            ORDER BY id
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<ReservationOutbox> lockNextBatch(int limit);
+
+    boolean existsByEventId(UUID eventId);
+}
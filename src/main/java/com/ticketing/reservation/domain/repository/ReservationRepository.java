@@ -1,9 +1,59 @@
 package com.ticketing.reservation.domain.repository;
 
 import com.ticketing.reservation.domain.Reservation;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 
 public interface ReservationRepository extends JpaRepository<Reservation, UUID> {
+
+    /**
+     * 예매 INSERT와 좌석 상태 변경을 한 문장으로 처리한다.
+     * (event_id, seat_id) 유니크 제약이 충돌을 판정하므로 락 없이도 한 명만 성공한다.
+     *
+     * @return 선점 성공 시 1, 이미 예매되었거나 좌석이 없으면 0
+     */
+    @Modifying
+    @Query(value = """
+            WITH claimed AS (
+                INSERT INTO reservations (id, event_id, seat_id, user_id, created_at)
+                SELECT :id, s.event_id, s.id, :userId, :createdAt
+                FROM seats s
+                WHERE s.id = :seatId AND s.event_id = :eventId AND s.status = 'AVAILABLE'
+                ON CONFLICT (event_id, seat_id) DO NOTHING
+                RETURNING seat_id
+            )
+            UPDATE seats SET status = 'RESERVED', version = version + 1
+            WHERE id IN (SELECT seat_id FROM claimed)
+            """, nativeQuery = true)
+    int insertIfAvailable(UUID id, UUID eventId, UUID seatId, UUID userId, LocalDateTime createdAt);
+
+    long countByEventId(UUID eventId);
+
+    // ===== keyset 페이지네이션 (created_at DESC, id DESC) =====
+
+    List<Reservation> findByUserIdOrderByCreatedAtDescIdDesc(UUID userId, Limit limit);
+
+    @Query(value = """
+            SELECT * FROM reservations
+            WHERE user_id = :userId AND (created_at, id) < (:createdAt, :id)
+            ORDER BY created_at DESC, id DESC
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<Reservation> findByUserIdBefore(UUID userId, LocalDateTime createdAt, UUID id, int limit);
+
+    List<Reservation> findByEventIdOrderByCreatedAtDescIdDesc(UUID eventId, Limit limit);
+
+    @Query(value = """
+            SELECT * FROM reservations
+            WHERE event_id = :eventId AND (created_at, id) < (:createdAt, :id)
+            ORDER BY created_at DESC, id DESC
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<Reservation> findByEventIdBefore(UUID eventId, LocalDateTime createdAt, UUID id, int limit);
 }
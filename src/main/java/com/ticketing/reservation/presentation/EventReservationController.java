@@ -0,0 +1,58 @@
+package com.ticketing.reservation.presentation;
+
+import com.ticketing.reservation.application.ReservationQueryService;
+import com.ticketing.reservation.application.dto.EventSalesResponse;
+import com.ticketing.reservation.application.dto.ReservationExportFormat;
+import com.ticketing.reservation.application.dto.ReservationPageResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.UUID;
+
+/**
+ * 운영자용 이벤트 예매 내역 / 판매 현황 / 내보내기 API
+ */
+@RestController
+@RequestMapping("/api/admin/events/{eventId}")
+@RequiredArgsConstructor
+public class EventReservationController {
+
+    private final ReservationQueryService reservationQueryService;
+
+    @GetMapping("/reservations")
+    public ResponseEntity<ReservationPageResponse> getReservations(
+            @PathVariable UUID eventId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "100") int size
+    ) {
+        ReservationPageResponse response = reservationQueryService.getEventReservations(eventId, cursor, size);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/sales")
+    public ResponseEntity<EventSalesResponse> getSales(@PathVariable UUID eventId) {
+        EventSalesResponse response = reservationQueryService.getEventSales(eventId);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/reservations/export")
+    public ResponseEntity<StreamingResponseBody> export(
+            @PathVariable UUID eventId,
+            @RequestParam(defaultValue = "CSV") ReservationExportFormat format
+    ) {
+        MediaType mediaType = format == ReservationExportFormat.CSV
+                ? new MediaType("text", "csv")
+                : MediaType.APPLICATION_JSON;
+        String filename = "reservations-" + eventId + "." + format.name().toLowerCase();
+
+        StreamingResponseBody body = out -> reservationQueryService.exportEventReservations(eventId, format, out);
+        return ResponseEntity.ok()
+                .contentType(mediaType)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"")
+                .body(body);
+    }
+}
@@ -1,12 +1,17 @@
 package com.ticketing.reservation.presentation;
 
+import com.ticketing.reservation.application.BestAvailableReservationService;
+import com.ticketing.reservation.application.ReservationQueryService;
 import com.ticketing.reservation.application.ReservationService;
+import com.ticketing.reservation.application.dto.ReservationPageResponse;
 import com.ticketing.reservation.application.dto.ReservationResponse;
+import com.ticketing.reservation.presentation.dto.BestAvailableRequest;
 import com.ticketing.reservation.presentation.dto.ReservationRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
 import java.util.UUID;
 
 @RestController
@@ -15,6 +20,8 @@ import java.util.UUID;
 public class ReservationController {
 
     private final ReservationService reservationService;
+    private final BestAvailableReservationService bestAvailableReservationService;
+    private final ReservationQueryService reservationQueryService;
 
     @PostMapping
     public ResponseEntity<ReservationResponse> reserve(
@@ -28,4 +35,27 @@ public class ReservationController {
         );
         return ResponseEntity.ok(response);
     }
+
+    @PostMapping("/best-available")
+    public ResponseEntity<List<ReservationResponse>> reserveBestAvailable(
+            @RequestBody BestAvailableRequest request,
+            @RequestHeader("X-User-Id") UUID userId
+    ) {
+        List<ReservationResponse> response = bestAvailableReservationService.reserve(
+                request.eventId(),
+                userId,
+                request.quantity()
+        );
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/me")
+    public ResponseEntity<ReservationPageResponse> getMyReservations(
+            @RequestHeader("X-User-Id") UUID userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        ReservationPageResponse response = reservationQueryService.getUserReservations(userId, cursor, size);
+        return ResponseEntity.ok(response);
+    }
 }
@@ -0,0 +1,8 @@
+package com.ticketing.reservation.presentation.dto;
+
+import java.util.UUID;
+
+public record BestAvailableRequest(
+        UUID eventId,
+        int quantity
+) {}
@@ -0,0 +1,166 @@
+package com.ticketing.seat.application.index;
+
+import com.ticketing.seat.domain.Seat;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 이벤트 한 개의 빈 좌석 인덱스.
+ * 열(row)마다 좌석 번호 순 BitSet을 두고, 앞 열 → 열 중앙에 가까운 순으로 연속 좌석 블록을 찾는다.
+ * 모든 Pod가 같은 인덱스에서 같은 블록을 고르지 않도록, 상위 후보 몇 개 중 하나를 seed로 고른다.
+ * 좌석 번호가 "A12" 형식이 아니면 좌석 하나짜리 열로 취급한다.
+ */
+public class EventSeatMap {
+
+    private static final Pattern SEAT_NUMBER = Pattern.compile("^([A-Za-z]*)(\\d+)$");
+
+    // 열 품질 순서: A, B, ..., Z, AA, AB, ...
+    private static final Comparator<String> ROW_ORDER =
+            Comparator.comparingInt(String::length).thenComparing(Comparator.naturalOrder());
+
+    private final List<Row> rows = new ArrayList<>();
+    private final Map<UUID, Position> positions = new HashMap<>();
+
+    public EventSeatMap(List<Seat> seats) {
+        Map<String, TreeMap<Integer, Seat>> byRow = new TreeMap<>(ROW_ORDER);
+        for (Seat seat : seats) {
+            Matcher matcher = SEAT_NUMBER.matcher(seat.getSeatNumber());
+            boolean parsed = matcher.matches() && Integer.parseInt(matcher.group(2)) > 0;
+            String row = parsed ? matcher.group(1) : seat.getSeatNumber();
+            int number = parsed ? Integer.parseInt(matcher.group(2)) : 1;
+            byRow.computeIfAbsent(row, key -> new TreeMap<>()).put(number, seat);
+        }
+
+        for (TreeMap<Integer, Seat> rowSeats : byRow.values()) {
+            int length = rowSeats.lastKey();
+            Row row = new Row(length);
+            // 빠진 번호(통로 등)는 비워 두어 연속 블록이 끊기도록 함
+            rowSeats.forEach((number, seat) -> {
+                int index = number - 1;
+                row.seatIds[index] = seat.getId();
+                row.free.set(index, !seat.isReserved());
+                positions.put(seat.getId(), new Position(rows.size(), index));
+            });
+            rows.add(row);
+        }
+    }
+
+    /**
+     * 좋은 순서로 서로 겹치지 않는 연속 좌석 블록을 최대 spread개 고르고, 그중 하나를 seed로 골라 임시로 점유한다.
+     *
+     * @param spread 후보 블록 수 (1이면 항상 최선의 블록)
+     * @param seed   후보 선택 값 - 사용자마다 다르게 주어 Pod 간 같은 블록 경합을 줄임
+     * @return 점유한 좌석 ID, 없으면 빈 목록
+     */
+    public synchronized List<UUID> hold(int quantity, int spread, long seed) {
+        List<Block> candidates = new ArrayList<>(spread);
+        for (int i = 0; i < rows.size() && candidates.size() < spread; i++) {
+            rows.get(i).collectStarts(i, quantity, spread - candidates.size(), candidates);
+        }
+        if (candidates.isEmpty()) {
+            return List.of();
+        }
+
+        Block block = candidates.get(Math.floorMod(seed, candidates.size()));
+        Row row = rows.get(block.row());
+        List<UUID> seatIds = new ArrayList<>(quantity);
+        for (int i = block.start(); i < block.start() + quantity; i++) {
+            row.free.clear(i);
+            seatIds.add(row.seatIds[i]);
+        }
+        return seatIds;
+    }
+
+    /**
+     * 예매로 이어지지 않은 임시 점유를 되돌린다.
+     */
+    public synchronized void release(Collection<UUID> seatIds) {
+        for (UUID seatId : seatIds) {
+            Position position = positions.get(seatId);
+            if (position != null) {
+                rows.get(position.row()).free.set(position.index());
+            }
+        }
+    }
+
+    public synchronized void markReserved(Collection<UUID> seatIds) {
+        for (UUID seatId : seatIds) {
+            Position position = positions.get(seatId);
+            if (position != null) {
+                rows.get(position.row()).free.clear(position.index());
+            }
+        }
+    }
+
+    public synchronized int available() {
+        int available = 0;
+        for (Row row : rows) {
+            available += row.free.cardinality();
+        }
+        return available;
+    }
+
+    private record Position(int row, int index) {
+    }
+
+    private record Block(int row, int start) {
+    }
+
+    private static final class Row {
+
+        private final UUID[] seatIds;
+        private final BitSet free;
+
+        private Row(int length) {
+            this.seatIds = new UUID[length];
+            this.free = new BitSet(length);
+        }
+
+        /**
+         * 블록 중심이 열 중심에 가까운 순으로, 이미 고른 블록과 겹치지 않는 시작 위치를 최대 limit개 추가한다.
+         * 거리가 같으면 왼쪽 블록이 먼저.
+         */
+        private void collectStarts(int rowIndex, int quantity, int limit, List<Block> out) {
+            double center = (seatIds.length - 1) / 2.0;
+            double idealStart = center - (quantity - 1) / 2.0;
+
+            // 구간마다 열 중심에 가장 가까운 위치 주변만 후보로 (긴 열에서 모든 시작 위치를 정렬하지 않도록)
+            int window = limit * quantity;
+            List<Integer> starts = new ArrayList<>();
+            int from = free.nextSetBit(0);
+            while (from >= 0) {
+                int to = free.nextClearBit(from);  // 빈 좌석 구간 [from, to)
+                if (to - from >= quantity) {
+                    int anchor = (int) Math.min(Math.max(Math.round(idealStart), from), to - quantity);
+                    int last = Math.min(anchor + window, to - quantity);
+                    for (int start = Math.max(anchor - window, from); start <= last; start++) {
+                        starts.add(start);
+                    }
+                }
+                from = free.nextSetBit(to);
+            }
+            starts.sort(Comparator.comparingDouble(start -> Math.abs(start - idealStart)));
+
+            List<Integer> picked = new ArrayList<>(limit);
+            for (int start : starts) {
+                if (picked.size() >= limit) {
+                    break;
+                }
+                if (picked.stream().allMatch(other -> Math.abs(other - start) >= quantity)) {
+                    picked.add(start);
+                    out.add(new Block(rowIndex, start));
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.ticketing.seat.application.index;
+
+import com.ticketing.seat.domain.SeatStatus;
+import com.ticketing.seat.domain.repository.SeatRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Pod 로컬 이벤트별 빈 좌석 인덱스.
+ * 예매가 확정되면 Redis Pub/Sub으로 다른 Pod에 알려 인덱스를 맞춘다.
+ * 인덱스는 후보를 고르는 용도이고, 최종 판정은 항상 DB 조건부 UPDATE가 한다.
+ * Pub/Sub은 유실될 수 있으므로(구독 재연결 중 발행 등) 주기적으로 DB의 예매 좌석을 다시 반영한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SeatAvailabilityIndex implements MessageListener {
+
+    public static final String RESERVED_CHANNEL = "seat:reserved";
+
+    private final SeatRepository seatRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    private final Map<UUID, EventSeatMap> seatMaps = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(RESERVED_CHANNEL));
+    }
+
+    public EventSeatMap get(UUID eventId) {
+        return seatMaps.computeIfAbsent(eventId, id -> new EventSeatMap(seatRepository.findByEventId(id)));
+    }
+
+    /**
+     * 예매 확정 좌석을 로컬 인덱스에 반영하고 다른 Pod에 전파한다.
+     * 메시지: {eventId}:{seatId},{seatId},...
+     */
+    public void markReserved(UUID eventId, Collection<UUID> seatIds) {
+        EventSeatMap seatMap = seatMaps.get(eventId);
+        if (seatMap != null) {
+            seatMap.markReserved(seatIds);
+        }
+
+        String payload = eventId + ":" + seatIds.stream().map(UUID::toString).collect(Collectors.joining(","));
+        redisTemplate.convertAndSend(RESERVED_CHANNEL, payload);
+    }
+
+    /**
+     * 놓친 seat:reserved 메시지 보정 - DB에서 RESERVED인 좌석을 인덱스에서 뺀다.
+     * 예매 좌석은 다시 빈 좌석이 되지 않으므로 빼기만 하면 되고, 진행 중인 hold에도 영향이 없다.
+     */
+    @Scheduled(fixedDelay = 30000)  // 30초마다
+    public void refresh() {
+        seatMaps.forEach((eventId, seatMap) -> {
+            try {
+                seatMap.markReserved(seatRepository.findIdsByEventIdAndStatus(eventId, SeatStatus.RESERVED));
+            } catch (DataAccessException e) {
+                log.warn("Skip seat index refresh - DB unavailable: {}", eventId);
+            }
+        });
+    }
+
+    public void evict(UUID eventId) {
+        seatMaps.remove(eventId);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String payload = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            int idx = payload.indexOf(':');
+            EventSeatMap seatMap = seatMaps.get(UUID.fromString(payload.substring(0, idx)));
+            if (seatMap == null) {
+                return;
+            }
+            List<UUID> seatIds = Arrays.stream(payload.substring(idx + 1).split(","))
+                    .map(UUID::fromString)
+                    .toList();
+            seatMap.markReserved(seatIds);
+        } catch (RuntimeException e) {
+            log.warn("Invalid seat reserved message: {}", payload);
+        }
+    }
+}
@@ -8,7 +8,7 @@ import lombok.NoArgsConstructor;
 import java.util.UUID;
 
 @Entity
-@Table(name = "seats")
+@Table(name = "seats", indexes = @Index(name = "idx_seats_event_id", columnList = "event_id"))
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Seat {
@@ -27,6 +27,9 @@ public class Seat {
     @Column(nullable = false)
     private SeatStatus status;
 
+    @Version
+    private long version;
+
     public Seat(UUID eventId, String seatNumber) {
         this.eventId = eventId;
         this.seatNumber = seatNumber;
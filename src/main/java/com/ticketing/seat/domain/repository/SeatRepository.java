@@ -1,11 +1,14 @@
 package com.ticketing.seat.domain.repository;
 
 import com.ticketing.seat.domain.Seat;
+import com.ticketing.seat.domain.SeatStatus;
 import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -14,7 +17,29 @@ public interface SeatRepository extends JpaRepository<Seat, UUID> {
 
     List<Seat> findByEventId(UUID eventId);
 
+    long countByEventId(UUID eventId);
+
+    long countByEventIdAndStatus(UUID eventId, SeatStatus status);
+
+    boolean existsByEventIdAndStatus(UUID eventId, SeatStatus status);
+
+    @Query("SELECT s.id FROM Seat s WHERE s.eventId = :eventId")
+    List<UUID> findIdsByEventId(UUID eventId);
+
+    @Query("SELECT s.id FROM Seat s WHERE s.eventId = :eventId AND s.status = :status")
+    List<UUID> findIdsByEventIdAndStatus(UUID eventId, SeatStatus status);
+
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query("SELECT s FROM Seat s WHERE s.id = :id")
     Optional<Seat> findByIdForUpdate(UUID id);
+
+    @Modifying
+    @Query(value = "UPDATE seats SET status = 'RESERVED', version = version + 1 WHERE id = :id AND status = 'AVAILABLE'",
+            nativeQuery = true)
+    int reserveIfAvailable(UUID id);
+
+    @Modifying
+    @Query(value = "UPDATE seats SET status = 'RESERVED', version = version + 1 WHERE id IN (:ids) AND status = 'AVAILABLE'",
+            nativeQuery = true)
+    int reserveAllIfAvailable(Collection<UUID> ids);
 }
@@ -0,0 +1,80 @@
+package com.ticketing.startup;
+
+import com.ticketing.config.StartupProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 기동 직후 요청 지연 시간 기록.
+ * readiness 이후 첫 요청과 처음 N개 요청(earlyRequestCount)을 별도 메트릭으로 남겨 스케일아웃 직후의 콜드 지연을 추적한다.
+ * 기동 시간 자체는 Spring Boot 기본 메트릭(application.started.time, application.ready.time)을 사용한다.
+ */
+@Slf4j
+@Component
+public class EarlyRequestMetricsFilter extends OncePerRequestFilter {
+
+    private final StartupProperties properties;
+    private final Timer firstRequestTimer;
+    private final Timer earlyRequestTimer;
+    private final AtomicInteger served = new AtomicInteger();
+    private volatile boolean ready;
+
+    public EarlyRequestMetricsFilter(StartupProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.firstRequestTimer = Timer.builder("ticketing.startup.first.request")
+                .description("기동 후 첫 API 요청 지연 시간")
+                .register(meterRegistry);
+        this.earlyRequestTimer = Timer.builder("ticketing.startup.early.requests")
+                .description("기동 후 처음 N개 API 요청 지연 시간")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+    }
+
+    // 워밍업 요청은 제외하고 readiness 이후 요청부터 기록
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        ready = true;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        // 프로브 / 스크레이프 요청은 제외
+        return !ready
+                || !request.getRequestURI().startsWith("/api/")
+                || served.get() >= properties.getEarlyRequestCount();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        long start = System.nanoTime();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            int order = served.incrementAndGet();
+            if (order <= properties.getEarlyRequestCount()) {
+                earlyRequestTimer.record(elapsed, TimeUnit.NANOSECONDS);
+            }
+            if (order == 1) {
+                firstRequestTimer.record(elapsed, TimeUnit.NANOSECONDS);
+                log.info("First request served in {} ms ({} ms after JVM start)",
+                        elapsed / 1_000_000, ManagementFactory.getRuntimeMXBean().getUptime());
+            }
+        }
+    }
+}
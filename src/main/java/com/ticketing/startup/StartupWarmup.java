@@ -0,0 +1,161 @@
+package com.ticketing.startup;
+
+import com.ticketing.config.StartupProperties;
+import com.ticketing.queue.application.QueueService;
+import com.ticketing.queue.application.eta.AdmissionRateTracker;
+import com.ticketing.queue.application.fallback.FallbackQueueRegistry;
+import com.ticketing.reservation.application.strategy.SeatClaimStrategy;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ApplicationContext;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.client.RestClient;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * readiness 전 워밍업.
+ * ApplicationRunner가 끝난 뒤에 readiness가 ACCEPTING_TRAFFIC이 되므로,
+ * 여기서 대기열 / 예매 경로를 미리 호출해 Lua 스크립트 적재, 커넥션 풀 채우기, JIT 컴파일을 끝내 둔다.
+ * 실제 이벤트에 영향이 없도록 임의의 eventId를 쓰고, 예매는 롤백한다.
+ * 끝나면 워밍업이 만든 키만 직접 지운다 (롤링 배포 중 Pod마다 키스페이스를 SCAN하지 않도록).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StartupWarmup implements ApplicationRunner {
+
+    private final StartupProperties properties;
+    private final QueueService queueService;
+    private final CircuitBreaker queueRedisCircuitBreaker;
+    private final FallbackQueueRegistry fallbackQueues;
+    private final List<SeatClaimStrategy> strategies;
+    private final TransactionTemplate transactionTemplate;
+    private final StringRedisTemplate redisTemplate;
+    private final ApplicationContext applicationContext;
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!properties.isWarmupEnabled() || properties.isTrainingRun()) {
+            return;
+        }
+
+        UUID eventId = UUID.randomUUID();
+        List<UUID> userIds = new ArrayList<>();
+        long start = System.nanoTime();
+        try {
+            for (int i = 0; i < properties.getWarmupIterations(); i++) {
+                // Redis 장애로 서킷이 열리면 중단 - 계속하면 워밍업 사용자가 로컬 대기열에 쌓였다가 Redis로 옮겨짐
+                if (!isRedisAvailable()) {
+                    log.warn("Skip startup warm-up - queue Redis circuit is {}", queueRedisCircuitBreaker.getState());
+                    return;
+                }
+                warmUpQueue(eventId, userIds);
+                warmUpClaim(eventId);
+            }
+            if (isRedisAvailable()) {
+                warmUpHttp(eventId, userIds);
+            }
+        } catch (RuntimeException e) {
+            // 워밍업 실패로 기동을 막지는 않음
+            log.warn("Startup warm-up failed: {}", e.getMessage());
+        } finally {
+            cleanUp(eventId, userIds);
+        }
+
+        long elapsed = System.nanoTime() - start;
+        Timer.builder("ticketing.startup.warmup")
+                .description("readiness 전 워밍업 소요 시간")
+                .register(meterRegistry)
+                .record(elapsed, TimeUnit.NANOSECONDS);
+        log.info("Startup warm-up finished in {} ms", elapsed / 1_000_000);
+    }
+
+    // 진입 → 상태 조회 → 토큰 발급 → 토큰 확인 → 반환 (대기열 Lua 스크립트 전부 실행)
+    private void warmUpQueue(UUID eventId, List<UUID> userIds) {
+        UUID userId = UUID.randomUUID();
+        userIds.add(userId);
+        queueService.enter(eventId, userId);
+        queueService.getStatus(eventId, userId);
+        queueService.acquireToken(eventId, userId);
+        queueService.hasToken(eventId, userId);
+        queueService.releaseToken(eventId, userId);
+    }
+
+    // 존재하지 않는 좌석으로 각 선점 방식의 쿼리를 실행하고 롤백
+    private void warmUpClaim(UUID eventId) {
+        for (SeatClaimStrategy strategy : strategies) {
+            transactionTemplate.executeWithoutResult(status -> {
+                status.setRollbackOnly();
+                try {
+                    strategy.claim(eventId, UUID.randomUUID(), UUID.randomUUID());
+                } catch (IllegalArgumentException | IllegalStateException ignored) {
+                }
+            });
+        }
+    }
+
+    // 서블릿 / Jackson 초기화 - 내장 서버가 떠 있을 때만 (MOCK 환경 테스트는 건너뜀)
+    private void warmUpHttp(UUID eventId, List<UUID> userIds) {
+        if (!(applicationContext instanceof WebServerApplicationContext webContext)) {
+            return;
+        }
+
+        RestClient client = RestClient.create("http://localhost:" + webContext.getWebServer().getPort());
+        for (int i = 0; i < properties.getWarmupIterations(); i++) {
+            UUID userId = UUID.randomUUID();
+            userIds.add(userId);
+            client.post().uri("/api/queue/enter?eventId={eventId}", eventId)
+                    .header("X-User-Id", userId.toString()).retrieve().toBodilessEntity();
+            client.get().uri("/api/queue/status?eventId={eventId}", eventId)
+                    .header("X-User-Id", userId.toString()).retrieve().toBodilessEntity();
+            client.post().uri("/api/queue/token?eventId={eventId}", eventId)
+                    .header("X-User-Id", userId.toString()).retrieve().toBodilessEntity();
+            client.get().uri("/api/admin/events/{eventId}/sales", eventId)
+                    .retrieve().toBodilessEntity();
+            client.get().uri("/api/reservations/me")
+                    .header("X-User-Id", userId.toString()).retrieve().toBodilessEntity();
+        }
+    }
+
+    private boolean isRedisAvailable() {
+        return queueRedisCircuitBreaker.getState() == CircuitBreaker.State.CLOSED;
+    }
+
+    // 워밍업 이벤트가 만든 키만 삭제 (대기열, 사용자별 활동 / 토큰 키, 카운터, 정책, 입장 속도, 리스)
+    private void cleanUp(UUID eventId, List<UUID> userIds) {
+        // 장애 중 로컬 대기열에 들어간 워밍업 사용자는 Redis로 옮기지 않고 버림
+        fallbackQueues.detach(eventId);
+
+        List<String> keys = new ArrayList<>(userIds.size() * 2 + 7);
+        keys.add("queue:" + eventId);
+        keys.add("token:count:" + eventId);
+        keys.add("policy:queue:" + eventId);
+        keys.add("lease:queue:" + eventId);
+        keys.add(AdmissionRateTracker.admittedKey(eventId));
+        keys.add(AdmissionRateTracker.rateKey(eventId));
+        for (UUID userId : userIds) {
+            keys.add("queue:activity:" + eventId + ":" + userId);
+            keys.add("token:" + eventId + ":" + userId);
+        }
+
+        try {
+            redisTemplate.delete(keys);
+            redisTemplate.opsForSet().remove(QueueService.ACTIVE_EVENTS_KEY, eventId.toString());
+        } catch (RuntimeException e) {
+            log.warn("Startup warm-up cleanup failed: {}", e.getMessage());
+        }
+    }
+}
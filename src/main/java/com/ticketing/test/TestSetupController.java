@@ -1,41 +1,37 @@
 package com.ticketing.test;
 
-import com.ticketing.seat.domain.Seat;
+import com.ticketing.event.application.EventProvisionService;
+import com.ticketing.event.application.dto.ProvisionedEvent;
+import com.ticketing.event.application.dto.SeatRowLayout;
 import com.ticketing.seat.domain.repository.SeatRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Profile;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.UUID;
 
 @RestController
-@RequestMapping("/api/test")
+@RequestMapping("/api/admin/test")
 @RequiredArgsConstructor
 @Profile("load-test")
 public class TestSetupController {
 
+    private final EventProvisionService eventProvisionService;
     private final SeatRepository seatRepository;
 
     @PostMapping("/setup")
     public ResponseEntity<Map<String, Object>> setup(@RequestParam(defaultValue = "100") int seatCount) {
-        UUID eventId = UUID.randomUUID();
-
-        List<Seat> seats = new ArrayList<>();
-        for (int i = 1; i <= seatCount; i++) {
-            seats.add(new Seat(eventId, "A" + i));
-        }
-        seatRepository.saveAll(seats);
-
-        List<UUID> seatIds = seats.stream().map(Seat::getId).toList();
+        ProvisionedEvent event = eventProvisionService.provision(
+                "load-test",
+                List.of(new SeatRowLayout("A", seatCount))
+        );
 
         return ResponseEntity.ok(Map.of(
-                "eventId", eventId,
-                "seatIds", seatIds,
-                "seatCount", seatCount
+                "eventId", event.eventId(),
+                "seatIds", event.seatIds(),
+                "seatCount", event.seatCount()
         ));
     }
 
@@ -0,0 +1,22 @@
+-- 기존 ddl-auto: update 로 생성되던 스키마
+CREATE TABLE IF NOT EXISTS events (
+    id          UUID         NOT NULL PRIMARY KEY,
+    name        VARCHAR(255) NOT NULL,
+    total_seats INTEGER      NOT NULL,
+    created_at  TIMESTAMP(6) NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS seats (
+    id          UUID         NOT NULL PRIMARY KEY,
+    event_id    UUID         NOT NULL,
+    seat_number VARCHAR(255) NOT NULL,
+    status      VARCHAR(255) NOT NULL CHECK (status IN ('AVAILABLE', 'RESERVED'))
+);
+
+CREATE TABLE IF NOT EXISTS reservations (
+    id         UUID         NOT NULL PRIMARY KEY,
+    event_id   UUID         NOT NULL,
+    seat_id    UUID         NOT NULL,
+    user_id    UUID         NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL
+);
@@ -0,0 +1,7 @@
+-- 좌석 목록 조회 (findByEventId) 풀스캔 방지
+CREATE INDEX IF NOT EXISTS idx_seats_event_id ON seats (event_id);
+
+-- 같은 좌석에 예매가 두 건 생기지 않도록 DB에서 보장
+-- INSERT ... ON CONFLICT 기반 선점의 충돌 판정 기준
+ALTER TABLE reservations
+    ADD CONSTRAINT uk_reservations_event_seat UNIQUE (event_id, seat_id);
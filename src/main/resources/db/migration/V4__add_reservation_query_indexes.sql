@@ -0,0 +1,7 @@
+-- 내 예매 목록 / 이벤트 판매 리포트 keyset 페이지네이션용 커버링 인덱스
+-- (정렬 키 + 나머지 컬럼 INCLUDE → index-only scan)
+CREATE INDEX IF NOT EXISTS idx_reservations_user_created
+    ON reservations (user_id, created_at DESC, id DESC) INCLUDE (event_id, seat_id);
+
+CREATE INDEX IF NOT EXISTS idx_reservations_event_created
+    ON reservations (event_id, created_at DESC, id DESC) INCLUDE (seat_id, user_id);
@@ -0,0 +1,9 @@
+-- 예매 후처리(잔여 좌석 감소, 토큰 반환, 좌석 인덱스 동기화) 이벤트 - 예매와 같은 트랜잭션에 기록
+-- relay가 Redis Stream(reservation-events)으로 발행한 뒤 삭제하므로 미발행 건만 남는다
+CREATE TABLE IF NOT EXISTS reservation_outbox (
+    id         BIGSERIAL PRIMARY KEY,
+    event_id   UUID      NOT NULL,
+    user_id    UUID      NOT NULL,
+    seat_ids   TEXT      NOT NULL,
+    created_at TIMESTAMP NOT NULL
+);
@@ -0,0 +1,20 @@
+-- 이벤트 판매 상태 (OPEN → SOLD_OUT → CLOSED) 와 종료 정리 시각
+ALTER TABLE events ADD COLUMN IF NOT EXISTS status VARCHAR(20) NOT NULL DEFAULT 'OPEN'
+    CHECK (status IN ('OPEN', 'SOLD_OUT', 'CLOSED'));
+ALTER TABLE events ADD COLUMN IF NOT EXISTS sold_out_at TIMESTAMP(6);
+ALTER TABLE events ADD COLUMN IF NOT EXISTS closed_at TIMESTAMP(6);
+ALTER TABLE events ADD COLUMN IF NOT EXISTS swept_at TIMESTAMP(6);
+
+-- 정리 스케줄러는 Redis 키 정리가 끝나지 않은 이벤트만 조회
+CREATE INDEX IF NOT EXISTS idx_events_unswept ON events (status) WHERE swept_at IS NULL;
+
+-- 종료된 이벤트의 최종 통계 (Redis 키를 지우기 전에 보관)
+CREATE TABLE IF NOT EXISTS event_stats (
+    event_id         UUID         NOT NULL PRIMARY KEY,
+    total_seats      INTEGER      NOT NULL,
+    reserved_seats   BIGINT       NOT NULL,
+    admitted_users   BIGINT       NOT NULL,
+    waiting_at_close BIGINT       NOT NULL,
+    closed_at        TIMESTAMP(6) NOT NULL,
+    archived_at      TIMESTAMP(6) NOT NULL
+);
@@ -0,0 +1,98 @@
+package com.ticketing.config;
+
+import com.ticketing.IntegrationTestBase;
+import com.ticketing.seat.application.SeatService;
+import com.ticketing.seat.application.dto.SeatResponse;
+import com.ticketing.seat.domain.Seat;
+import com.ticketing.seat.domain.repository.SeatRepository;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 두 번째 Postgres 컨테이너를 replica 대신 사용한다.
+ * 복제는 하지 않으므로 어느 DB에서 읽었는지를 데이터로 구분할 수 있다.
+ */
+class ReadReplicaRoutingTest extends IntegrationTestBase {
+
+    static PostgreSQLContainer<?> replica = new PostgreSQLContainer<>("postgres:17")
+            .withDatabaseName("ticketing_replica")
+            .withUsername("test")
+            .withPassword("test");
+
+    static {
+        replica.start();
+        Flyway.configure()
+                .dataSource(replica.getJdbcUrl(), replica.getUsername(), replica.getPassword())
+                .load()
+                .migrate();
+    }
+
+    @DynamicPropertySource
+    static void configureReplica(DynamicPropertyRegistry registry) {
+        registry.add("ticketing.datasource.replica.url", replica::getJdbcUrl);
+        registry.add("ticketing.datasource.replica.username", replica::getUsername);
+        registry.add("ticketing.datasource.replica.password", replica::getPassword);
+        registry.add("ticketing.datasource.replica.lag-check-interval-ms", () -> "3600000");
+    }
+
+    @Autowired
+    private SeatService seatService;
+
+    @Autowired
+    private SeatRepository seatRepository;
+
+    @Autowired
+    private ReplicaLagMonitor lagMonitor;
+
+    private final JdbcTemplate replicaJdbc = new JdbcTemplate(
+            new DriverManagerDataSource(replica.getJdbcUrl(), replica.getUsername(), replica.getPassword()));
+
+    @AfterEach
+    void tearDown() {
+        lagMonitor.record(0);
+    }
+
+    @Test
+    @DisplayName("쓰기는 primary, 읽기 전용 트랜잭션은 replica로 간다")
+    void readOnlyTransaction_readsFromReplica() {
+        UUID eventId = UUID.randomUUID();
+        seatRepository.save(new Seat(eventId, "A1"));
+        insertIntoReplica(eventId, "R1");
+
+        List<SeatResponse> seats = seatService.getSeats(eventId);
+
+        assertThat(seats).extracting(SeatResponse::seatNumber).containsExactly("R1");
+    }
+
+    @Test
+    @DisplayName("replica 지연이 기준을 넘으면 읽기도 primary로 간다")
+    void staleReplica_fallsBackToPrimary() {
+        UUID eventId = UUID.randomUUID();
+        seatRepository.save(new Seat(eventId, "A1"));
+        insertIntoReplica(eventId, "R1");
+
+        lagMonitor.record(Long.MAX_VALUE);
+
+        List<SeatResponse> seats = seatService.getSeats(eventId);
+
+        assertThat(seats).extracting(SeatResponse::seatNumber).containsExactly("A1");
+    }
+
+    private void insertIntoReplica(UUID eventId, String seatNumber) {
+        replicaJdbc.update("INSERT INTO seats (id, event_id, seat_number, status, version) VALUES (?, ?, ?, 'AVAILABLE', 0)",
+                UUID.randomUUID(), eventId, seatNumber);
+    }
+}
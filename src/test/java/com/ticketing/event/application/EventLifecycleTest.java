@@ -0,0 +1,126 @@
+package com.ticketing.event.application;
+
+import com.ticketing.IntegrationTestBase;
+import com.ticketing.event.application.dto.ProvisionedEvent;
+import com.ticketing.event.application.dto.SeatRowLayout;
+import com.ticketing.event.domain.Event;
+import com.ticketing.event.domain.EventStats;
+import com.ticketing.event.domain.EventStatus;
+import com.ticketing.event.domain.repository.EventRepository;
+import com.ticketing.event.domain.repository.EventStatsRepository;
+import com.ticketing.queue.application.QueueService;
+import com.ticketing.seat.domain.Seat;
+import com.ticketing.seat.domain.repository.SeatRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class EventLifecycleTest extends IntegrationTestBase {
+
+    @Autowired
+    private EventProvisionService eventProvisionService;
+
+    @Autowired
+    private EventLifecycleService eventLifecycleService;
+
+    @Autowired
+    private EventClosingSweeper sweeper;
+
+    @Autowired
+    private QueueService queueService;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private EventStatsRepository eventStatsRepository;
+
+    @Autowired
+    private SeatRepository seatRepository;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        var keys = redisTemplate.keys("*");
+        if (keys != null && !keys.isEmpty()) {
+            redisTemplate.delete(keys);
+        }
+    }
+
+    @Test
+    @DisplayName("판매 종료된 이벤트는 대기열 진입을 거부한다")
+    void closedEvent_rejectsEnter() {
+        UUID eventId = provision(10);
+
+        assertThat(eventLifecycleService.close(eventId)).isEqualTo(EventStatus.CLOSED);
+
+        assertThatThrownBy(() -> queueService.enter(eventId, UUID.randomUUID()))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("판매가 종료된 이벤트입니다.");
+    }
+
+    @Test
+    @DisplayName("남은 좌석이 없으면 SOLD_OUT으로 전환되고 대기열 진입을 거부한다")
+    void noAvailableSeat_marksSoldOut() {
+        UUID eventId = provision(2);
+        transactionTemplate.executeWithoutResult(status ->
+                seatRepository.findByEventId(eventId).forEach(Seat::reserve));
+
+        sweeper.advance(load(eventId));
+
+        assertThat(load(eventId).getStatus()).isEqualTo(EventStatus.SOLD_OUT);
+        assertThatThrownBy(() -> queueService.enter(eventId, UUID.randomUUID()))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("매진된 이벤트입니다.");
+    }
+
+    @Test
+    @DisplayName("종료된 이벤트는 최종 통계를 보관한 뒤 Redis 키를 모두 지우고 정리 완료로 표시한다")
+    void closedEvent_archivesStatsAndUnlinksKeys() {
+        UUID eventId = provision(10);
+        for (int i = 0; i < 5; i++) {
+            queueService.enter(eventId, UUID.randomUUID());
+        }
+        eventLifecycleService.close(eventId);
+
+        sweeper.advance(load(eventId));
+
+        EventStats stats = eventStatsRepository.findById(eventId).orElseThrow();
+        assertThat(stats.getTotalSeats()).isEqualTo(10);
+        assertThat(stats.getWaitingAtClose()).isEqualTo(5);
+        assertThat(stats.getReservedSeats()).isZero();
+
+        assertThat(redisTemplate.keys("*" + eventId + "*"))
+                .allMatch(key -> key.startsWith("lease:"));
+        assertThat(load(eventId).getSweptAt()).isNull();
+
+        // 지울 키가 더 없는 주기에서 정리 완료
+        sweeper.advance(load(eventId));
+
+        assertThat(load(eventId).getSweptAt()).isNotNull();
+        assertThat(eventRepository.findBySweptAtIsNull()).extracting(Event::getId).doesNotContain(eventId);
+    }
+
+    private UUID provision(int seats) {
+        ProvisionedEvent event = eventProvisionService.provision("콘서트", List.of(new SeatRowLayout("A", seats)));
+        return event.eventId();
+    }
+
+    private Event load(UUID eventId) {
+        return eventRepository.findById(eventId).orElseThrow();
+    }
+}
@@ -0,0 +1,55 @@
+package com.ticketing.event.application;
+
+import com.ticketing.IntegrationTestBase;
+import com.ticketing.event.application.dto.ProvisionedEvent;
+import com.ticketing.event.application.dto.SeatRowLayout;
+import com.ticketing.seat.domain.Seat;
+import com.ticketing.seat.domain.SeatStatus;
+import com.ticketing.seat.domain.repository.SeatRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class EventProvisionServiceTest extends IntegrationTestBase {
+
+    @Autowired
+    private EventProvisionService eventProvisionService;
+
+    @Autowired
+    private SeatRepository seatRepository;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    @Test
+    @DisplayName("좌석 배치대로 좌석을 생성하고 Redis 카운터를 초기화한다")
+    void provision_createsSeatsAndCounters() {
+        ProvisionedEvent event = eventProvisionService.provision("콘서트", List.of(
+                new SeatRowLayout("A", 1500),
+                new SeatRowLayout("B", 700)
+        ));
+
+        List<Seat> seats = seatRepository.findByEventId(event.eventId());
+        assertThat(seats).hasSize(2200);
+        assertThat(seats).allMatch(seat -> seat.getStatus() == SeatStatus.AVAILABLE);
+        assertThat(seats).extracting(Seat::getSeatNumber).contains("A1", "A1500", "B700");
+        assertThat(event.seatIds()).hasSize(2200).doesNotHaveDuplicates();
+
+        assertThat(redisTemplate.opsForValue().get("seat:count:" + event.eventId())).isEqualTo("2200");
+        assertThat(redisTemplate.opsForValue().get("token:count:" + event.eventId())).isEqualTo("0");
+    }
+
+    @Test
+    @DisplayName("좌석 배치가 비어 있으면 예외 발생")
+    void provision_emptyLayout_throwsException() {
+        assertThatThrownBy(() -> eventProvisionService.provision("콘서트", List.of()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("좌석 배치가 비어 있습니다.");
+    }
+}
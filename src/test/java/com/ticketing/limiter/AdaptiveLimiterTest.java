@@ -0,0 +1,81 @@
+package com.ticketing.limiter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AdaptiveLimiterTest {
+
+    private static final long MILLIS = 1_000_000L;
+
+    @Test
+    @DisplayName("한도만큼 동시 처리하고 초과 요청은 즉시 거절한다")
+    void tryAcquire_rejectsOverLimit() {
+        AdaptiveLimiter limiter = new AdaptiveLimiter(2, 1, 10);
+
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isFalse();
+
+        limiter.onIgnore();
+        assertThat(limiter.tryAcquire()).isTrue();
+    }
+
+    @Test
+    @DisplayName("응답 시간이 일정하면 한도를 늘린다")
+    void onSuccess_stableLatency_growsLimit() {
+        AdaptiveLimiter limiter = new AdaptiveLimiter(10, 1, 100);
+
+        runSaturated(limiter, 200, 10 * MILLIS);
+
+        assertThat(limiter.getLimit()).isGreaterThan(10);
+    }
+
+    @Test
+    @DisplayName("응답 시간이 늘어나면 한도를 줄인다")
+    void onSuccess_risingLatency_shrinksLimit() {
+        AdaptiveLimiter limiter = new AdaptiveLimiter(50, 1, 100);
+        runSaturated(limiter, 100, 10 * MILLIS);
+        int before = limiter.getLimit();
+
+        runSaturated(limiter, 3, 200 * MILLIS);
+
+        assertThat(limiter.getLimit()).isLessThan(before);
+    }
+
+    @Test
+    @DisplayName("실패가 나면 한도를 줄이고 최소 한도 아래로는 내려가지 않는다")
+    void onDropped_backsOffToMinLimit() {
+        AdaptiveLimiter limiter = new AdaptiveLimiter(10, 3, 100);
+
+        for (int i = 0; i < 50; i++) {
+            limiter.tryAcquire();
+            limiter.onDropped();
+        }
+
+        assertThat(limiter.getLimit()).isEqualTo(3);
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("잘못된 한도 설정은 예외 발생")
+    void constructor_invalidBounds_throwsException() {
+        assertThatThrownBy(() -> new AdaptiveLimiter(5, 10, 100))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    // 한도를 가득 채운 상태로 요청을 처리 (늘릴 근거가 있는 상태)
+    private void runSaturated(AdaptiveLimiter limiter, int rounds, long rttNanos) {
+        for (int i = 0; i < rounds; i++) {
+            int acquired = 0;
+            while (limiter.tryAcquire()) {
+                acquired++;
+            }
+            for (int j = 0; j < acquired; j++) {
+                limiter.onSuccess(rttNanos);
+            }
+        }
+    }
+}
@@ -11,6 +11,9 @@ import org.springframework.data.redis.core.StringRedisTemplate;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -122,6 +125,64 @@ class QueueServiceTest extends IntegrationTestBase {
         assertThat(queueService.hasToken(eventId, userId)).isFalse();
     }
 
+    @Test
+    @DisplayName("같은 토큰을 동시에 반환해도 입장 인원은 한 번만 감소한다")
+    void releaseToken_concurrent_decrementsOnce() throws InterruptedException {
+        UUID userId = UUID.randomUUID();
+        queueService.enter(eventId, userId);
+        queueService.acquireToken(eventId, userId);
+
+        int threadCount = 10;
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+        for (int i = 0; i < threadCount; i++) {
+            executor.submit(() -> {
+                try {
+                    queueService.releaseToken(eventId, userId);
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+        executor.shutdown();
+
+        assertThat(redisTemplate.opsForValue().get("token:count:" + eventId)).isEqualTo("0");
+    }
+
+    @Test
+    @DisplayName("활동 키가 만료된 사용자만 대기열에서 제거한다")
+    void removeInactiveUsers_removesOnlyInactive() {
+        List<UUID> users = new ArrayList<>();
+        for (int i = 0; i < 1200; i++) {  // 정리 배치 크기(500)보다 많이
+            UUID userId = UUID.randomUUID();
+            users.add(userId);
+            queueService.enter(eventId, userId);
+        }
+        for (int i = 0; i < users.size(); i += 2) {
+            redisTemplate.delete(String.format("queue:activity:%s:%s", eventId, users.get(i)));
+        }
+
+        queueService.removeInactiveUsers(eventId);
+
+        assertThat(redisTemplate.opsForZSet().zCard("queue:" + eventId)).isEqualTo(600L);
+        assertThat(redisTemplate.opsForZSet().rank("queue:" + eventId, users.get(1).toString())).isEqualTo(0L);
+        assertThat(queueService.getActiveEventIds()).containsExactly(eventId);
+    }
+
+    @Test
+    @DisplayName("대기열이 비면 정리 시 이벤트 목록에서 제외한다")
+    void removeInactiveUsers_whenQueueEmpty_unregistersEvent() {
+        UUID userId = UUID.randomUUID();
+        queueService.enter(eventId, userId);
+        assertThat(queueService.getActiveEventIds()).containsExactly(eventId);
+
+        redisTemplate.delete(String.format("queue:activity:%s:%s", eventId, userId));
+        queueService.removeInactiveUsers(eventId);
+
+        assertThat(queueService.getActiveEventIds()).isEmpty();
+    }
+
     @Test
     @DisplayName("동시 입장 인원 초과 시 WAITING 상태를 반환한다")
     void getStatus_whenMaxConcurrentExceeded_returnsWaiting() {
@@ -185,5 +246,10 @@ class QueueServiceTest extends IntegrationTestBase {
                 .isEqualTo(QueueStatus.WAITING);
         assertThat(((QueueWaitingResponse) queueService.getStatus(eventId, users.get(3))).status())
                 .isEqualTo(QueueStatus.WAITING);
+
+        // rank 4 → 입장 가능 2명을 제외하면 앞에 2명
+        QueueWaitingResponse last = (QueueWaitingResponse) queueService.getStatus(eventId, users.get(4));
+        assertThat(last.rank()).isEqualTo(4L);
+        assertThat(last.aheadCount()).isEqualTo(2L);
     }
 }
@@ -0,0 +1,59 @@
+package com.ticketing.queue.application.cluster;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EventOwnershipTest {
+
+    private final List<UUID> eventIds = IntStream.range(0, 6000)
+            .mapToObj(i -> UUID.randomUUID())
+            .toList();
+
+    @Test
+    @DisplayName("이벤트가 Pod들에 고르게 나뉜다")
+    void ownerOf_distributesEvenly() {
+        List<String> pods = List.of("pod-a", "pod-b", "pod-c", "pod-d", "pod-e", "pod-f");
+
+        Map<String, Integer> counts = new HashMap<>();
+        for (UUID eventId : eventIds) {
+            counts.merge(EventOwnership.ownerOf(eventId, pods), 1, Integer::sum);
+        }
+
+        assertThat(counts).hasSize(6);
+        assertThat(counts.values()).allSatisfy(count -> assertThat(count).isBetween(800, 1200));
+    }
+
+    @Test
+    @DisplayName("Pod가 빠지면 그 Pod 몫의 이벤트만 옮겨간다")
+    void ownerOf_onScaleDown_movesOnlyRemovedPodsEvents() {
+        List<String> before = List.of("pod-a", "pod-b", "pod-c");
+        List<String> after = List.of("pod-a", "pod-c");
+
+        for (UUID eventId : eventIds) {
+            String previous = EventOwnership.ownerOf(eventId, before);
+            String current = EventOwnership.ownerOf(eventId, after);
+            if (!previous.equals("pod-b")) {
+                assertThat(current).isEqualTo(previous);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("멤버 순서와 무관하게 같은 담당 Pod를 고른다")
+    void ownerOf_isOrderIndependent() {
+        List<String> pods = List.of("pod-a", "pod-b", "pod-c");
+        List<String> reversed = List.of("pod-c", "pod-b", "pod-a");
+
+        for (UUID eventId : eventIds) {
+            assertThat(EventOwnership.ownerOf(eventId, reversed)).isEqualTo(EventOwnership.ownerOf(eventId, pods));
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.ticketing.queue.application.eta;
+
+import com.ticketing.IntegrationTestBase;
+import com.ticketing.queue.application.QueueService;
+import com.ticketing.queue.application.dto.QueuePolicyChange;
+import com.ticketing.queue.application.dto.QueueStatus;
+import com.ticketing.queue.application.dto.QueueWaitingResponse;
+import com.ticketing.queue.application.policy.QueuePolicyService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdmissionRateTrackerTest extends IntegrationTestBase {
+
+    @Autowired
+    private AdmissionRateTracker admissionRateTracker;
+
+    @Autowired
+    private QueueService queueService;
+
+    @Autowired
+    private QueuePolicyService queuePolicyService;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    private UUID eventId;
+
+    @BeforeEach
+    void setUp() {
+        eventId = UUID.randomUUID();
+        var keys = redisTemplate.keys("*");
+        if (keys != null && !keys.isEmpty()) {
+            redisTemplate.delete(keys);
+        }
+    }
+
+    @Test
+    @DisplayName("입장 속도를 모르면 예상 시간 없이 기본 polling 간격을 안내한다")
+    void getStatus_withoutRate_returnsDefaultInterval() {
+        List<UUID> users = enterUsers(3);
+        queuePolicyService.update(eventId, new QueuePolicyChange(null, null, null, 1, null));
+
+        QueueWaitingResponse response = (QueueWaitingResponse) queueService.getStatus(eventId, users.get(2));
+
+        assertThat(response.status()).isEqualTo(QueueStatus.WAITING);
+        assertThat(response.aheadCount()).isEqualTo(1L);
+        assertThat(response.estimatedWaitSeconds()).isNull();
+        assertThat(response.pollIntervalMs()).isEqualTo(queuePolicyService.get(eventId).pollIntervalMs());
+    }
+
+    @Test
+    @DisplayName("토큰 발급 속도로 입장 속도를 계산하고 상태 조회에 예상 대기 시간을 포함한다")
+    void tick_afterAdmissions_estimatesWait() throws InterruptedException {
+        List<UUID> users = enterUsers(10);
+
+        // 첫 계산은 기준점만 기록
+        assertThat(admissionRateTracker.tick(eventId)).isNull();
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(queueService.acquireToken(eventId, users.get(i)).success()).isTrue();
+        }
+        Thread.sleep(1000);
+
+        Double rate = admissionRateTracker.tick(eventId);
+        assertThat(rate).isNotNull().isPositive();
+
+        // 한 번에 1명만 READY → 마지막 사용자 (rank 4) 앞에 3명
+        queuePolicyService.update(eventId, new QueuePolicyChange(null, null, null, 1, null));
+        QueueWaitingResponse response = (QueueWaitingResponse) queueService.getStatus(eventId, users.get(9));
+
+        assertThat(response.status()).isEqualTo(QueueStatus.WAITING);
+        assertThat(response.rank()).isEqualTo(4L);
+        assertThat(response.aheadCount()).isEqualTo(3L);
+        assertThat(response.estimatedWaitSeconds()).isNotNull().isPositive();
+    }
+
+    private List<UUID> enterUsers(int count) {
+        List<UUID> users = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            UUID userId = UUID.randomUUID();
+            users.add(userId);
+            queueService.enter(eventId, userId);
+        }
+        return users;
+    }
+}
@@ -0,0 +1,47 @@
+package com.ticketing.queue.application.eta;
+
+import com.ticketing.queue.application.policy.QueuePolicy;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class QueueEtaTest {
+
+    // activityTtl 60초 → polling 간격은 최대 30초
+    private final QueuePolicy policy = new QueuePolicy(500, 300, 60, 0, 1000);
+
+    @Test
+    @DisplayName("순서가 멀수록 polling 간격이 늘어나고 상한에서 멈춘다")
+    void estimate_farFromFront_backsOff() {
+        QueueEta near = QueueEta.estimate(10, 10.0, policy, 15000);
+        QueueEta middle = QueueEta.estimate(200, 10.0, policy, 15000);
+        QueueEta far = QueueEta.estimate(100_000, 10.0, policy, 15000);
+
+        assertThat(near.estimatedWaitSeconds()).isEqualTo(2L);
+        assertThat(near.pollIntervalMs()).isEqualTo(1000L);
+        assertThat(middle.estimatedWaitSeconds()).isEqualTo(21L);
+        assertThat(middle.pollIntervalMs()).isEqualTo(5250L);
+        assertThat(far.pollIntervalMs()).isEqualTo(15000L);
+    }
+
+    @Test
+    @DisplayName("polling 간격은 활동 TTL의 절반을 넘지 않는다")
+    void estimate_neverExceedsHalfActivityTtl() {
+        QueuePolicy shortTtl = new QueuePolicy(500, 300, 10, 0, 1000);
+
+        assertThat(QueueEta.estimate(100_000, 1.0, shortTtl, 15000).pollIntervalMs()).isEqualTo(5000L);
+    }
+
+    @Test
+    @DisplayName("입장 속도를 모르면 예상 시간 없이 기본 간격, 입장이 멈췄으면 최대 간격")
+    void estimate_unknownOrStalledRate() {
+        QueueEta unknown = QueueEta.estimate(100, QueueEta.UNKNOWN_RATE, policy, 15000);
+        QueueEta stalled = QueueEta.estimate(100, 0, policy, 15000);
+
+        assertThat(unknown.estimatedWaitSeconds()).isNull();
+        assertThat(unknown.pollIntervalMs()).isEqualTo(1000L);
+        assertThat(stalled.estimatedWaitSeconds()).isNull();
+        assertThat(stalled.pollIntervalMs()).isEqualTo(15000L);
+    }
+}
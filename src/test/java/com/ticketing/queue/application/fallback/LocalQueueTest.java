@@ -0,0 +1,142 @@
+package com.ticketing.queue.application.fallback;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LocalQueueTest {
+
+    @Test
+    @DisplayName("진입 순서대로 순번을 부여하고 재진입 시 같은 순번을 반환한다")
+    void enter_returnsRankInOrder() {
+        LocalQueue queue = new LocalQueue(8, 2);
+
+        assertThat(queue.enter("u1", 1)).isEqualTo(0);
+        assertThat(queue.enter("u2", 2)).isEqualTo(1);
+        assertThat(queue.enter("u1", 3)).isEqualTo(0);
+        assertThat(queue.rank("unknown")).isEqualTo(LocalQueue.NOT_IN_QUEUE);
+    }
+
+    @Test
+    @DisplayName("용량을 넘으면 FULL을 반환하고, 입장으로 자리가 나면 다시 받는다")
+    void enter_whenFull_returnsFull() {
+        LocalQueue queue = new LocalQueue(2, 2);
+        queue.enter("u1", 1);
+        queue.enter("u2", 2);
+
+        assertThat(queue.enter("u3", 3)).isEqualTo(LocalQueue.FULL);
+
+        assertThat(queue.admit("u1")).isEqualTo(1);
+        assertThat(queue.enter("u3", 3)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("로컬 입장 허용 인원을 넘으면 입장시키지 않는다")
+    void admit_respectsLocalLimit() {
+        LocalQueue queue = new LocalQueue(8, 1);
+        queue.enter("u1", 1);
+        queue.enter("u2", 2);
+
+        assertThat(queue.admit("u2")).isZero();
+        assertThat(queue.admit("u1")).isEqualTo(1);
+        assertThat(queue.admit("u2")).isZero();
+
+        queue.release("u1");
+
+        assertThat(queue.rank("u2")).isZero();
+        assertThat(queue.admit("u2")).isEqualTo(1);
+        assertThat(queue.hasToken("u2")).isTrue();
+    }
+
+    @Test
+    @DisplayName("입장 한도를 바꾸면 이후 입장부터 새 한도를 적용한다")
+    void updateLimit_appliesToLaterAdmissions() {
+        LocalQueue queue = new LocalQueue(8, 1);
+        queue.enter("u1", 1);
+        queue.enter("u2", 2);
+        queue.admit("u1");
+        assertThat(queue.admit("u2")).isZero();
+
+        queue.updateLimit(2);
+
+        assertThat(queue.admit("u2")).isEqualTo(1);
+        assertThat(queue.remaining()).isZero();
+    }
+
+    @Test
+    @DisplayName("복구 실패로 되돌린 대기열은 그 사이 생긴 대기열의 대기자 / 입장자를 뒤에 합친다")
+    void absorb_appendsEntriesAndTokens() {
+        LocalQueue detached = new LocalQueue(8, 4);
+        detached.enter("u1", 1);
+        LocalQueue fresh = new LocalQueue(8, 4);
+        fresh.enter("u2", 2);
+        fresh.enter("u3", 3);
+        fresh.admit("u2");
+
+        detached.absorb(fresh);
+
+        assertThat(detached.rank("u1")).isZero();
+        assertThat(detached.rank("u3")).isEqualTo(1);
+        assertThat(detached.hasToken("u2")).isTrue();
+        assertThat(detached.remaining()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("복구용 대기자 목록은 입장하지 않은 사용자만 순번 순으로 담는다")
+    void pendingEntries_excludesAdmitted() {
+        LocalQueue queue = new LocalQueue(8, 1);
+        queue.enter("u1", 10);
+        queue.enter("u2", 20);
+        queue.enter("u3", 30);
+        queue.admit("u1");
+
+        assertThat(queue.pendingEntries())
+                .extracting(LocalQueue.Entry::userId)
+                .containsExactly("u2", "u3");
+        assertThat(queue.admittedUsers()).containsExactly("u1");
+    }
+
+    @Test
+    @DisplayName("동시 입장 시에도 허용 인원을 넘지 않는다")
+    void admit_concurrent_neverExceedsLimit() throws InterruptedException {
+        int limit = 10;
+        int users = 200;
+        LocalQueue queue = new LocalQueue(256, limit);
+        for (int i = 0; i < users; i++) {
+            queue.enter("u" + i, i);
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        CountDownLatch latch = new CountDownLatch(users);
+        AtomicInteger admitted = new AtomicInteger();
+        Set<String> admittedUsers = ConcurrentHashMap.newKeySet();
+
+        for (int i = 0; i < users; i++) {
+            String userId = "u" + i;
+            executor.submit(() -> {
+                try {
+                    if (queue.admit(userId) == 1) {
+                        admitted.incrementAndGet();
+                        admittedUsers.add(userId);
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        latch.await();
+        executor.shutdown();
+
+        assertThat(admitted.get()).isLessThanOrEqualTo(limit);
+        assertThat(queue.admittedUsers()).isEqualTo(admittedUsers);
+    }
+}
@@ -0,0 +1,101 @@
+package com.ticketing.queue.application.policy;
+
+import com.ticketing.IntegrationTestBase;
+import com.ticketing.queue.application.QueueService;
+import com.ticketing.queue.application.dto.QueuePolicyChange;
+import com.ticketing.queue.application.dto.QueueStatus;
+import com.ticketing.queue.application.dto.QueueWaitingResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class QueuePolicyServiceTest extends IntegrationTestBase {
+
+    @Autowired
+    private QueuePolicyService queuePolicyService;
+
+    @Autowired
+    private QueueService queueService;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    private UUID eventId;
+
+    @BeforeEach
+    void setUp() {
+        eventId = UUID.randomUUID();
+        var keys = redisTemplate.keys("*");
+        if (keys != null && !keys.isEmpty()) {
+            redisTemplate.delete(keys);
+        }
+    }
+
+    @Test
+    @DisplayName("이벤트별 동시 입장 인원을 바꾸면 바로 입장 판단에 반영된다")
+    void update_maxConcurrent_appliesToAdmission() {
+        List<UUID> users = enterUsers(3);
+
+        queuePolicyService.update(eventId, new QueuePolicyChange(2, null, null, null, null));
+
+        assertThat(queueService.acquireToken(eventId, users.get(0)).success()).isTrue();
+        assertThat(queueService.acquireToken(eventId, users.get(1)).success()).isTrue();
+        assertThat(queueService.acquireToken(eventId, users.get(2)).success()).isFalse();
+    }
+
+    @Test
+    @DisplayName("입장 배치 크기만큼만 READY, polling 간격 힌트를 응답에 포함한다")
+    void update_admissionBatchSize_limitsReadyWindow() {
+        List<UUID> users = enterUsers(3);
+
+        queuePolicyService.update(eventId, new QueuePolicyChange(null, null, null, 1, 3000L));
+
+        QueueWaitingResponse first = (QueueWaitingResponse) queueService.getStatus(eventId, users.get(0));
+        QueueWaitingResponse second = (QueueWaitingResponse) queueService.getStatus(eventId, users.get(1));
+
+        assertThat(first.status()).isEqualTo(QueueStatus.READY);
+        assertThat(second.status()).isEqualTo(QueueStatus.WAITING);
+        assertThat(second.pollIntervalMs()).isEqualTo(3000L);
+        assertThat(queueService.acquireToken(eventId, users.get(1)).success()).isFalse();
+    }
+
+    @Test
+    @DisplayName("정책을 초기화하면 기본값으로 돌아간다")
+    void reset_restoresDefaults() {
+        QueuePolicy defaults = queuePolicyService.get(eventId);
+        queuePolicyService.update(eventId, new QueuePolicyChange(10, 30, 10, 5, 500L));
+
+        QueuePolicy reset = queuePolicyService.reset(eventId);
+
+        assertThat(reset).isEqualTo(defaults);
+    }
+
+    @Test
+    @DisplayName("잘못된 값으로 변경하면 예외 발생")
+    void update_invalidValue_throwsException() {
+        assertThatThrownBy(() -> queuePolicyService.update(eventId, new QueuePolicyChange(0, null, null, null, null)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> queuePolicyService.update(eventId, new QueuePolicyChange(null, null, null, null, null)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("변경할 정책이 없습니다.");
+    }
+
+    private List<UUID> enterUsers(int count) {
+        List<UUID> users = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            UUID userId = UUID.randomUUID();
+            queueService.enter(eventId, userId);
+            users.add(userId);
+        }
+        return users;
+    }
+}
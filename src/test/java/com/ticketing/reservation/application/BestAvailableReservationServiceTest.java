@@ -0,0 +1,125 @@
+package com.ticketing.reservation.application;
+
+import com.ticketing.IntegrationTestBase;
+import com.ticketing.event.application.EventProvisionService;
+import com.ticketing.event.application.dto.ProvisionedEvent;
+import com.ticketing.event.application.dto.SeatRowLayout;
+import com.ticketing.queue.application.QueueService;
+import com.ticketing.reservation.application.dto.ReservationResponse;
+import com.ticketing.reservation.domain.repository.ReservationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+class BestAvailableReservationServiceTest extends IntegrationTestBase {
+
+    @Autowired
+    private BestAvailableReservationService bestAvailableReservationService;
+
+    @Autowired
+    private EventProvisionService eventProvisionService;
+
+    @Autowired
+    private QueueService queueService;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    private UUID eventId;
+
+    @BeforeEach
+    void setUp() {
+        var keys = redisTemplate.keys("*");
+        if (keys != null && !keys.isEmpty()) {
+            redisTemplate.delete(keys);
+        }
+        ProvisionedEvent event = eventProvisionService.provision("best-available",
+                List.of(new SeatRowLayout("A", 10), new SeatRowLayout("B", 10)));
+        eventId = event.eventId();
+    }
+
+    @Test
+    @DisplayName("연속 좌석을 배정하고 토큰을 반환한다")
+    void reserve_assignsContiguousSeats() {
+        UUID userId = enterWithToken();
+
+        List<ReservationResponse> responses = bestAvailableReservationService.reserve(eventId, userId, 3);
+
+        assertThat(responses).hasSize(3);
+        assertThat(queueService.hasToken(eventId, userId)).isFalse();
+        // 잔여 좌석 감소는 outbox 소비자가 비동기로 처리
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() ->
+                assertThat(redisTemplate.opsForValue().get("seat:count:" + eventId)).isEqualTo("17"));
+    }
+
+    @Test
+    @DisplayName("최대 매수를 넘으면 예외 발생")
+    void reserve_overMaxQuantity_throwsException() {
+        UUID userId = enterWithToken();
+
+        assertThatThrownBy(() -> bestAvailableReservationService.reserve(eventId, userId, 5))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("동시에 요청해도 서로 겹치지 않는 좌석을 배정하고 남는 좌석이 없으면 실패한다")
+    void reserve_concurrent_assignsDisjointSeats() throws InterruptedException {
+        int threadCount = 12;  // 20석 / 2석 = 10명만 성공
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+        AtomicInteger successCount = new AtomicInteger(0);
+        Set<UUID> seatIds = ConcurrentHashMap.newKeySet();
+
+        List<UUID> userIds = IntStream.range(0, threadCount)
+                .mapToObj(i -> enterWithToken())
+                .toList();
+
+        for (UUID userId : userIds) {
+            executor.submit(() -> {
+                try {
+                    bestAvailableReservationService.reserve(eventId, userId, 2)
+                            .forEach(response -> seatIds.add(response.seatId()));
+                    successCount.incrementAndGet();
+                } catch (Exception ignored) {
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        latch.await();
+        executor.shutdown();
+
+        assertThat(successCount.get()).isEqualTo(10);
+        assertThat(seatIds).hasSize(20);
+        assertThat(reservationRepository.findAll().stream().filter(r -> r.getEventId().equals(eventId)))
+                .hasSize(20);
+    }
+
+    private UUID enterWithToken() {
+        UUID userId = UUID.randomUUID();
+        queueService.enter(eventId, userId);
+        queueService.acquireToken(eventId, userId);
+        return userId;
+    }
+}
@@ -0,0 +1,135 @@
+package com.ticketing.reservation.application;
+
+import com.ticketing.IntegrationTestBase;
+import com.ticketing.queue.application.QueueService;
+import com.ticketing.reservation.application.dto.ReservationResponse;
+import com.ticketing.reservation.domain.Reservation;
+import com.ticketing.reservation.domain.repository.ReservationRepository;
+import com.ticketing.seat.domain.Seat;
+import com.ticketing.seat.domain.SeatStatus;
+import com.ticketing.seat.domain.repository.SeatRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@TestPropertySource(properties = "ticketing.reservation.claim-strategy=insert-conflict")
+class InsertConflictReservationTest extends IntegrationTestBase {
+
+    @Autowired
+    private ReservationService reservationService;
+
+    @Autowired
+    private QueueService queueService;
+
+    @Autowired
+    private SeatRepository seatRepository;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    private UUID eventId;
+
+    @BeforeEach
+    void setUp() {
+        eventId = UUID.randomUUID();
+        var keys = redisTemplate.keys("*");
+        if (keys != null && !keys.isEmpty()) {
+            redisTemplate.delete(keys);
+        }
+    }
+
+    @Test
+    @DisplayName("INSERT 선점으로 예매 성공 시 좌석이 RESERVED로 변경된다")
+    void reserve_success() {
+        UUID userId = UUID.randomUUID();
+        Seat seat = seatRepository.save(new Seat(eventId, "A1"));
+        queueService.enter(eventId, userId);
+        queueService.acquireToken(eventId, userId);
+
+        ReservationResponse response = reservationService.reserve(eventId, seat.getId(), userId);
+
+        assertThat(response.seatId()).isEqualTo(seat.getId());
+        assertThat(reservationRepository.findById(response.id())).isPresent();
+        assertThat(seatRepository.findById(seat.getId()).orElseThrow().getStatus()).isEqualTo(SeatStatus.RESERVED);
+    }
+
+    @Test
+    @DisplayName("없는 좌석 예매 시 예외 발생")
+    void reserve_unknownSeat_throwsException() {
+        UUID userId = UUID.randomUUID();
+        queueService.enter(eventId, userId);
+        queueService.acquireToken(eventId, userId);
+
+        assertThatThrownBy(() -> reservationService.reserve(eventId, UUID.randomUUID(), userId))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("좌석을 찾을 수 없습니다.");
+    }
+
+    @Test
+    @DisplayName("같은 좌석에 예매 두 건은 유니크 제약으로 거부된다")
+    void uniqueConstraint_rejectsDuplicateReservation() {
+        Seat seat = seatRepository.save(new Seat(eventId, "A1"));
+        reservationRepository.saveAndFlush(new Reservation(eventId, seat.getId(), UUID.randomUUID()));
+
+        assertThatThrownBy(() -> reservationRepository.saveAndFlush(
+                new Reservation(eventId, seat.getId(), UUID.randomUUID())))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    @Test
+    @DisplayName("동시에 같은 좌석 예매 시 하나만 성공")
+    void reserve_concurrent_onlyOneSucceeds() throws InterruptedException {
+        Seat seat = seatRepository.save(new Seat(eventId, "A1"));
+
+        int threadCount = 20;
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+        AtomicInteger successCount = new AtomicInteger(0);
+        List<UUID> userIds = new ArrayList<>();
+
+        for (int i = 0; i < threadCount; i++) {
+            UUID userId = UUID.randomUUID();
+            userIds.add(userId);
+            queueService.enter(eventId, userId);
+            queueService.acquireToken(eventId, userId);
+        }
+
+        for (UUID userId : userIds) {
+            executor.submit(() -> {
+                try {
+                    reservationService.reserve(eventId, seat.getId(), userId);
+                    successCount.incrementAndGet();
+                } catch (Exception ignored) {
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        latch.await();
+        executor.shutdown();
+
+        assertThat(successCount.get()).isEqualTo(1);
+        assertThat(reservationRepository.findAll())
+                .filteredOn(reservation -> reservation.getSeatId().equals(seat.getId()))
+                .hasSize(1);
+    }
+}
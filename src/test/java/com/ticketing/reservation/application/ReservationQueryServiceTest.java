@@ -0,0 +1,79 @@
+package com.ticketing.reservation.application;
+
+import com.ticketing.IntegrationTestBase;
+import com.ticketing.reservation.application.dto.ReservationExportFormat;
+import com.ticketing.reservation.application.dto.ReservationPageResponse;
+import com.ticketing.reservation.application.dto.ReservationResponse;
+import com.ticketing.reservation.domain.Reservation;
+import com.ticketing.reservation.domain.repository.ReservationRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ReservationQueryServiceTest extends IntegrationTestBase {
+
+    @Autowired
+    private ReservationQueryService reservationQueryService;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Test
+    @DisplayName("내 예매 목록을 최신순으로 커서를 따라 끝까지 조회한다")
+    void getUserReservations_followsCursor() {
+        UUID userId = UUID.randomUUID();
+        for (int i = 0; i < 5; i++) {
+            reservationRepository.save(new Reservation(UUID.randomUUID(), UUID.randomUUID(), userId));
+        }
+
+        List<ReservationResponse> all = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            ReservationPageResponse page = reservationQueryService.getUserReservations(userId, cursor, 2);
+            all.addAll(page.reservations());
+            cursor = page.nextCursor();
+            pages++;
+        } while (cursor != null);
+
+        assertThat(pages).isEqualTo(3);
+        assertThat(all).hasSize(5);
+        assertThat(all).extracting(ReservationResponse::id).doesNotHaveDuplicates();
+        assertThat(all).extracting(ReservationResponse::createdAt)
+                .isSortedAccordingTo((a, b) -> b.compareTo(a));
+    }
+
+    @Test
+    @DisplayName("잘못된 커서로 조회 시 예외 발생")
+    void getUserReservations_invalidCursor_throwsException() {
+        assertThatThrownBy(() -> reservationQueryService.getUserReservations(UUID.randomUUID(), "invalid", 10))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("잘못된 커서입니다.");
+    }
+
+    @Test
+    @DisplayName("이벤트 예매 내역을 CSV로 내보낸다")
+    void exportEventReservations_csv() {
+        UUID eventId = UUID.randomUUID();
+        for (int i = 0; i < 3; i++) {
+            reservationRepository.save(new Reservation(eventId, UUID.randomUUID(), UUID.randomUUID()));
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        reservationQueryService.exportEventReservations(eventId, ReservationExportFormat.CSV, out);
+
+        List<String> lines = out.toString(StandardCharsets.UTF_8).lines().toList();
+        assertThat(lines).hasSize(4);
+        assertThat(lines.get(0)).isEqualTo("id,event_id,seat_id,user_id,created_at");
+        assertThat(lines.subList(1, 4)).allMatch(line -> line.contains(eventId.toString()));
+    }
+}
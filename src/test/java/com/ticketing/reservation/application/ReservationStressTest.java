@@ -0,0 +1,341 @@
+package com.ticketing.reservation.application;
+
+import com.ticketing.IntegrationTestBase;
+import com.ticketing.event.application.EventProvisionService;
+import com.ticketing.event.application.dto.ProvisionedEvent;
+import com.ticketing.event.application.dto.SeatRowLayout;
+import com.ticketing.queue.application.QueueService;
+import com.ticketing.queue.application.dto.QueuePolicyChange;
+import com.ticketing.queue.application.policy.QueuePolicyService;
+import com.ticketing.reservation.application.dto.ReservationResponse;
+import com.ticketing.reservation.application.strategy.SeatClaimStrategy;
+import com.ticketing.reservation.domain.repository.ReservationOutboxRepository;
+import com.ticketing.reservation.domain.repository.ReservationRepository;
+import com.ticketing.seat.domain.SeatStatus;
+import com.ticketing.seat.domain.repository.SeatRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * 대기열 → 토큰 → 예매 경로의 동시성 스트레스 테스트.
+ * 가상 스레드 수백 개가 enter / acquireToken / reserve / releaseToken을 반복하는 동안과 끝난 뒤에
+ * 다음 불변식을 확인하고, 좌석 경합 정도 × 선점 방식별 처리량과 지연 시간을 기록한다.
+ *
+ * - 좌석 하나에 예매는 최대 1건 (예매 수 = RESERVED 좌석 수, 성공 응답의 좌석이 서로 다름)
+ * - 입장 인원 카운트는 실행 중 [0, maxConcurrent] 범위, 종료 후 실제 토큰 키 수와 같음
+ * - 대기열과 토큰 보유자는 겹치지 않음
+ * - 예매에 성공한 토큰으로는 다시 예매할 수 없음 (1토큰 1예매)
+ * - 잔여 좌석 카운트 = DB의 AVAILABLE 좌석 수
+ *
+ * 대기열 / 예매 경로의 성능 변경은 이 테스트로 경합 상황의 정합성을 확인한다.
+ *
+ * <pre>./gradlew stressTest</pre>
+ */
+@Tag("stress")
+class ReservationStressTest extends IntegrationTestBase {
+
+    private static final int USERS = 400;
+    private static final int MAX_CONCURRENT = 50;
+    private static final Duration TOKEN_WAIT_LIMIT = Duration.ofSeconds(60);
+
+    // 좌석 수만 바꿔 같은 좌석을 노리는 사용자 수를 조절 (1명 / 10명 / 100명)
+    private static final List<Profile> PROFILES = List.of(
+            new Profile("spread", 400),
+            new Profile("contended", 40),
+            new Profile("hotspot", 4)
+    );
+
+    @Autowired
+    private ReservationService reservationService;
+
+    @Autowired
+    private QueueService queueService;
+
+    @Autowired
+    private QueuePolicyService queuePolicyService;
+
+    @Autowired
+    private EventProvisionService eventProvisionService;
+
+    @Autowired
+    private SeatRepository seatRepository;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private ReservationOutboxRepository outboxRepository;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        var keys = redisTemplate.keys("*");
+        if (keys != null && !keys.isEmpty()) {
+            redisTemplate.delete(keys);
+        }
+    }
+
+    @Test
+    void reservationPathPreservesInvariantsUnderContention() throws Exception {
+        List<Result> results = new ArrayList<>();
+
+        for (ClaimStrategyType type : ClaimStrategyType.values()) {
+            for (Profile profile : PROFILES) {
+                results.add(run(type, profile));
+            }
+        }
+
+        report(results);
+    }
+
+    private Result run(ClaimStrategyType type, Profile profile) throws Exception {
+        SeatClaimStrategy strategy = reservationService.strategyOf(type);
+        ProvisionedEvent event = eventProvisionService.provision("stress-" + profile.name(),
+                List.of(new SeatRowLayout("A", profile.seats())));
+        UUID eventId = event.eventId();
+        List<UUID> seatIds = event.seatIds();
+        queuePolicyService.update(eventId, new QueuePolicyChange(MAX_CONCURRENT, null, null, null, null));
+
+        // 실제로 측정한 요청만 기록 - 진입 거부 / 토큰 대기 초과 사용자가 0으로 섞여 백분위가 낮아지지 않도록
+        Queue<Long> reserveLatencies = new ConcurrentLinkedQueue<>();
+        Queue<Long> tokenWaits = new ConcurrentLinkedQueue<>();
+        Set<UUID> reservedSeats = ConcurrentHashMap.newKeySet();
+        AtomicInteger successes = new AtomicInteger();
+        AtomicInteger timeouts = new AtomicInteger();
+        AtomicInteger tokenReuses = new AtomicInteger();
+
+        // 실행 중 입장 인원 카운트 감시 - 발급 / 반환이 겹쳐도 상한을 넘거나 음수가 되면 안 됨
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicLong maxTokenCount = new AtomicLong();
+        AtomicLong minTokenCount = new AtomicLong();
+        Thread monitor = Thread.ofVirtual().start(() -> {
+            while (running.get()) {
+                long count = tokenCount(eventId);
+                maxTokenCount.accumulateAndGet(count, Math::max);
+                minTokenCount.accumulateAndGet(count, Math::min);
+                sleep(10);
+            }
+        });
+
+        long start = System.nanoTime();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < USERS; i++) {
+                futures.add(executor.submit(() -> {
+                    UUID userId = UUID.randomUUID();
+                    try {
+                        queueService.enter(eventId, userId);
+                    } catch (IllegalStateException e) {
+                        // 좌석이 적은 프로파일은 정리 주기에 매진 처리되어 진입이 막힐 수 있음
+                        return;
+                    }
+
+                    long waitStart = System.nanoTime();
+                    if (!awaitToken(eventId, userId)) {
+                        timeouts.incrementAndGet();
+                        return;
+                    }
+                    tokenWaits.add(System.nanoTime() - waitStart);
+
+                    UUID seatId = seatIds.get(ThreadLocalRandom.current().nextInt(seatIds.size()));
+                    long reserveStart = System.nanoTime();
+                    try {
+                        ReservationResponse response = reservationService.reserve(strategy, eventId, seatId, userId);
+                        successes.incrementAndGet();
+                        assertThat(reservedSeats.add(response.seatId()))
+                                .as("같은 좌석에 두 번째 예매 성공: %s", response.seatId())
+                                .isTrue();
+                    } catch (RuntimeException e) {
+                        // 선점 실패 - 토큰은 직접 반환 (성공 시에는 예매가 커밋 직후 반환)
+                        queueService.releaseToken(eventId, userId);
+                        return;
+                    } finally {
+                        reserveLatencies.add(System.nanoTime() - reserveStart);
+                    }
+
+                    // 같은 토큰으로 다른 좌석 재예매 시도 - 토큰이 이미 반환됐어야 함
+                    UUID otherSeatId = seatIds.get(ThreadLocalRandom.current().nextInt(seatIds.size()));
+                    try {
+                        ReservationResponse reused = reservationService.reserve(strategy, eventId, otherSeatId, userId);
+                        tokenReuses.incrementAndGet();
+                        successes.incrementAndGet();
+                        reservedSeats.add(reused.seatId());
+                    } catch (RuntimeException expected) {
+                        // 입장 토큰이 없습니다 / 이미 예매된 좌석입니다
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            running.set(false);
+            monitor.join();
+        }
+        long elapsed = System.nanoTime() - start;
+
+        assertThat(timeouts.get()).as("토큰 대기 시간 초과").isZero();
+        assertThat(tokenReuses.get()).as("한 토큰으로 두 번 예매").isZero();
+        assertThat(minTokenCount.get()).as("입장 인원 카운트 음수").isGreaterThanOrEqualTo(0);
+        assertThat(maxTokenCount.get()).as("입장 인원 상한 초과").isLessThanOrEqualTo(MAX_CONCURRENT);
+
+        // 후처리(잔여 좌석 감소)가 모두 끝난 뒤 최종 불변식 확인
+        await().atMost(Duration.ofSeconds(30))
+                .until(() -> !outboxRepository.existsByEventId(eventId) && tokenCount(eventId) == 0);
+        assertInvariants(eventId, profile, successes.get());
+
+        long[] reserveSamples = sorted(reserveLatencies);
+        long[] tokenWaitSamples = sorted(tokenWaits);
+        return new Result(
+                type,
+                profile,
+                successes.get(),
+                USERS / (elapsed / 1_000_000_000.0),
+                percentile(reserveSamples, 0.50),
+                percentile(reserveSamples, 0.95),
+                percentile(reserveSamples, 0.99),
+                percentile(tokenWaitSamples, 0.50),
+                percentile(tokenWaitSamples, 0.99),
+                maxTokenCount.get()
+        );
+    }
+
+    private boolean awaitToken(UUID eventId, UUID userId) {
+        long deadline = System.nanoTime() + TOKEN_WAIT_LIMIT.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (queueService.acquireToken(eventId, userId).success()) {
+                return true;
+            }
+            // 순번 조회로 활동 TTL 갱신 (비활성 정리 대상에서 제외)
+            queueService.getStatus(eventId, userId);
+            sleep(20);
+        }
+        return false;
+    }
+
+    private void assertInvariants(UUID eventId, Profile profile, int successes) {
+        // 좌석 하나에 예매 1건
+        List<UUID> doubleBooked = jdbcTemplate.queryForList(
+                "SELECT seat_id FROM reservations WHERE event_id = ? GROUP BY seat_id HAVING COUNT(*) > 1",
+                UUID.class, eventId);
+        assertThat(doubleBooked).as("중복 예매 좌석").isEmpty();
+
+        long reservations = reservationRepository.countByEventId(eventId);
+        long reservedSeats = seatRepository.countByEventIdAndStatus(eventId, SeatStatus.RESERVED);
+        assertThat(reservations).isEqualTo(successes).isEqualTo(reservedSeats);
+        assertThat(reservations).isLessThanOrEqualTo(profile.seats());
+
+        // 입장 인원 카운트 = 실제 토큰 수
+        Set<String> tokenHolders = tokenHolders(eventId);
+        assertThat(tokenCount(eventId)).as("입장 인원 카운트").isEqualTo(tokenHolders.size());
+
+        // 대기열과 토큰 보유자는 서로소
+        Set<String> waiting = redisTemplate.opsForZSet().range("queue:" + eventId, 0, -1);
+        if (waiting != null) {
+            assertThat(waiting).as("대기열과 토큰 보유자 중복").doesNotContainAnyElementsOf(tokenHolders);
+        }
+
+        // 잔여 좌석 카운트 = DB 빈 좌석 수
+        long available = seatRepository.countByEventIdAndStatus(eventId, SeatStatus.AVAILABLE);
+        assertThat(redisTemplate.opsForValue().get("seat:count:" + eventId)).isEqualTo(String.valueOf(available));
+    }
+
+    private long tokenCount(UUID eventId) {
+        String count = redisTemplate.opsForValue().get("token:count:" + eventId);
+        return count != null ? Long.parseLong(count) : 0;
+    }
+
+    private Set<String> tokenHolders(UUID eventId) {
+        String prefix = "token:" + eventId + ":";
+        Set<String> holders = new HashSet<>();
+        try (Cursor<String> cursor = redisTemplate.scan(ScanOptions.scanOptions().match(prefix + "*").count(1000).build())) {
+            cursor.forEachRemaining(key -> holders.add(key.substring(prefix.length())));
+        }
+        return holders;
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static long[] sorted(Queue<Long> samples) {
+        return samples.stream().mapToLong(Long::longValue).sorted().toArray();
+    }
+
+    private static double percentile(long[] sorted, double p) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int idx = (int) Math.ceil(p * sorted.length) - 1;
+        return sorted[Math.max(idx, 0)] / 1_000_000.0;
+    }
+
+    private static void report(List<Result> results) throws IOException {
+        StringBuilder sb = new StringBuilder();
+        sb.append("| strategy | profile | seats | users | reserved | users/s | reserve p50(ms) | reserve p95(ms) | reserve p99(ms) | token wait p50(ms) | token wait p99(ms) | max tokens |\n");
+        sb.append("|---|---|---|---|---|---|---|---|---|---|---|---|\n");
+        for (Result r : results) {
+            sb.append("| %s | %s | %d | %d | %d | %.1f | %.2f | %.2f | %.2f | %.2f | %.2f | %d |%n".formatted(
+                    r.type(), r.profile().name(), r.profile().seats(), USERS, r.successes(), r.throughput(),
+                    r.reserveP50(), r.reserveP95(), r.reserveP99(), r.tokenWaitP50(), r.tokenWaitP99(), r.maxTokens()));
+        }
+
+        System.out.println(sb);
+        Path out = Path.of("build", "reports", "stress", "reservation.md");
+        Files.createDirectories(out.getParent());
+        Files.writeString(out, sb.toString());
+    }
+
+    private record Profile(String name, int seats) {}
+
+    private record Result(
+            ClaimStrategyType type,
+            Profile profile,
+            int successes,
+            double throughput,
+            double reserveP50,
+            double reserveP95,
+            double reserveP99,
+            double tokenWaitP50,
+            double tokenWaitP99,
+            long maxTokens
+    ) {}
+}
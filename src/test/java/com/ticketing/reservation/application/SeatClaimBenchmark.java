@@ -0,0 +1,159 @@
+package com.ticketing.reservation.application;
+
+import com.ticketing.IntegrationTestBase;
+import com.ticketing.reservation.application.strategy.SeatClaimStrategy;
+import com.ticketing.seat.domain.Seat;
+import com.ticketing.seat.domain.repository.SeatRepository;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 좌석 선점 방식별 경합 벤치마크.
+ * 좌석당 동시 선점 시도 수를 늘려가며 처리량과 지연 시간 분포를 측정한다.
+ *
+ * <pre>./gradlew benchmark</pre>
+ */
+@Tag("benchmark")
+class SeatClaimBenchmark extends IntegrationTestBase {
+
+    private static final int SEAT_COUNT = 64;
+    private static final int THREAD_COUNT = 32;
+    private static final int[] CLAIMERS_PER_SEAT = {1, 4, 16, 32};
+
+    @Autowired
+    private ReservationService reservationService;
+
+    @Autowired
+    private SeatRepository seatRepository;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    @Test
+    void compareStrategies() throws Exception {
+        List<Result> results = new ArrayList<>();
+
+        for (ClaimStrategyType type : ClaimStrategyType.values()) {
+            // 워밍업 - JIT, 커넥션, 스크립트 캐시
+            run(type, 4);
+
+            for (int claimers : CLAIMERS_PER_SEAT) {
+                Result result = run(type, claimers);
+                assertThat(result.successes()).isEqualTo(SEAT_COUNT);
+                results.add(result);
+            }
+        }
+
+        report(results);
+    }
+
+    private Result run(ClaimStrategyType type, int claimersPerSeat) throws Exception {
+        SeatClaimStrategy strategy = reservationService.strategyOf(type);
+        UUID eventId = UUID.randomUUID();
+
+        List<Seat> seats = new ArrayList<>();
+        for (int i = 1; i <= SEAT_COUNT; i++) {
+            seats.add(new Seat(eventId, "A" + i));
+        }
+        seatRepository.saveAll(seats);
+
+        // 같은 좌석을 노리는 요청이 연달아 제출되도록 좌석 단위로 묶어서 제출
+        List<Runnable> tasks = new ArrayList<>();
+        long[] latencies = new long[SEAT_COUNT * claimersPerSeat];
+        AtomicInteger index = new AtomicInteger();
+        AtomicInteger successes = new AtomicInteger();
+
+        for (Seat seat : seats) {
+            for (int i = 0; i < claimersPerSeat; i++) {
+                UUID userId = UUID.randomUUID();
+                redisTemplate.opsForValue().set("token:%s:%s".formatted(eventId, userId), "1", 5, TimeUnit.MINUTES);
+                tasks.add(() -> {
+                    long start = System.nanoTime();
+                    try {
+                        reservationService.reserve(strategy, eventId, seat.getId(), userId);
+                        successes.incrementAndGet();
+                    } catch (RuntimeException ignored) {
+                        // 선점 실패는 정상 결과
+                    } finally {
+                        latencies[index.getAndIncrement()] = System.nanoTime() - start;
+                    }
+                });
+            }
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        long start = System.nanoTime();
+        List<Future<?>> futures = new ArrayList<>();
+        for (Runnable task : tasks) {
+            futures.add(executor.submit(task));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        long elapsed = System.nanoTime() - start;
+        executor.shutdown();
+
+        Arrays.sort(latencies);
+        return new Result(
+                type,
+                claimersPerSeat,
+                latencies.length,
+                successes.get(),
+                latencies.length / (elapsed / 1_000_000_000.0),
+                percentile(latencies, 0.50),
+                percentile(latencies, 0.95),
+                percentile(latencies, 0.99),
+                latencies[latencies.length - 1] / 1_000_000.0
+        );
+    }
+
+    private static double percentile(long[] sorted, double p) {
+        int idx = (int) Math.ceil(p * sorted.length) - 1;
+        return sorted[Math.max(idx, 0)] / 1_000_000.0;
+    }
+
+    private static void report(List<Result> results) throws IOException {
+        StringBuilder sb = new StringBuilder();
+        sb.append("| strategy | claimers/seat | attempts | success | req/s | p50(ms) | p95(ms) | p99(ms) | max(ms) |\n");
+        sb.append("|---|---|---|---|---|---|---|---|---|\n");
+        for (Result r : results) {
+            sb.append("| %s | %d | %d | %d | %.1f | %.2f | %.2f | %.2f | %.2f |%n".formatted(
+                    r.type(), r.claimersPerSeat(), r.attempts(), r.successes(),
+                    r.throughput(), r.p50(), r.p95(), r.p99(), r.max()));
+        }
+
+        System.out.println(sb);
+        Path out = Path.of("build", "reports", "benchmark", "seat-claim.md");
+        Files.createDirectories(out.getParent());
+        Files.writeString(out, sb.toString());
+    }
+
+    private record Result(
+            ClaimStrategyType type,
+            int claimersPerSeat,
+            int attempts,
+            int successes,
+            double throughput,
+            double p50,
+            double p95,
+            double p99,
+            double max
+    ) {}
+}
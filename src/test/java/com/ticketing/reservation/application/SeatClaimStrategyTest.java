@@ -0,0 +1,112 @@
+package com.ticketing.reservation.application;
+
+import com.ticketing.IntegrationTestBase;
+import com.ticketing.queue.application.QueueService;
+import com.ticketing.reservation.application.dto.ReservationResponse;
+import com.ticketing.reservation.application.strategy.SeatClaimStrategy;
+import com.ticketing.seat.domain.Seat;
+import com.ticketing.seat.domain.SeatStatus;
+import com.ticketing.seat.domain.repository.SeatRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SeatClaimStrategyTest extends IntegrationTestBase {
+
+    @Autowired
+    private ReservationService reservationService;
+
+    @Autowired
+    private QueueService queueService;
+
+    @Autowired
+    private SeatRepository seatRepository;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    private UUID eventId;
+
+    @BeforeEach
+    void setUp() {
+        eventId = UUID.randomUUID();
+        var keys = redisTemplate.keys("*");
+        if (keys != null && !keys.isEmpty()) {
+            redisTemplate.delete(keys);
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(ClaimStrategyType.class)
+    @DisplayName("선점 방식별 정상 예매 후 같은 좌석 재예매 시 예외 발생")
+    void reserve_thenAlreadyReserved(ClaimStrategyType type) {
+        SeatClaimStrategy strategy = reservationService.strategyOf(type);
+        Seat seat = seatRepository.save(new Seat(eventId, "A1"));
+        UUID user1 = enterWithToken();
+        UUID user2 = enterWithToken();
+
+        ReservationResponse response = reservationService.reserve(strategy, eventId, seat.getId(), user1);
+
+        assertThat(response.seatId()).isEqualTo(seat.getId());
+        assertThat(seatRepository.findById(seat.getId()).orElseThrow().getStatus()).isEqualTo(SeatStatus.RESERVED);
+        assertThatThrownBy(() -> reservationService.reserve(strategy, eventId, seat.getId(), user2))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("이미 예매된 좌석입니다.");
+    }
+
+    @ParameterizedTest
+    @EnumSource(ClaimStrategyType.class)
+    @DisplayName("선점 방식별 동시에 같은 좌석 예매 시 하나만 성공")
+    void reserve_concurrent_onlyOneSucceeds(ClaimStrategyType type) throws InterruptedException {
+        SeatClaimStrategy strategy = reservationService.strategyOf(type);
+        Seat seat = seatRepository.save(new Seat(eventId, "A1"));
+
+        int threadCount = 10;
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+        AtomicInteger successCount = new AtomicInteger(0);
+
+        List<UUID> userIds = new ArrayList<>();
+        for (int i = 0; i < threadCount; i++) {
+            userIds.add(enterWithToken());
+        }
+
+        for (UUID userId : userIds) {
+            executor.submit(() -> {
+                try {
+                    reservationService.reserve(strategy, eventId, seat.getId(), userId);
+                    successCount.incrementAndGet();
+                } catch (Exception ignored) {
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        latch.await();
+        executor.shutdown();
+
+        assertThat(successCount.get()).isEqualTo(1);
+    }
+
+    private UUID enterWithToken() {
+        UUID userId = UUID.randomUUID();
+        queueService.enter(eventId, userId);
+        queueService.acquireToken(eventId, userId);
+        return userId;
+    }
+}
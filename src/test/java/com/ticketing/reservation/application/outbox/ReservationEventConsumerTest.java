@@ -0,0 +1,103 @@
+package com.ticketing.reservation.application.outbox;
+
+import com.ticketing.IntegrationTestBase;
+import com.ticketing.queue.application.QueueService;
+import com.ticketing.reservation.application.ReservationService;
+import com.ticketing.reservation.domain.repository.ReservationOutboxRepository;
+import com.ticketing.seat.domain.Seat;
+import com.ticketing.seat.domain.repository.SeatRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamInfo.XInfoGroup;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+class ReservationEventConsumerTest extends IntegrationTestBase {
+
+    @Autowired
+    private ReservationService reservationService;
+
+    @Autowired
+    private QueueService queueService;
+
+    @Autowired
+    private SeatRepository seatRepository;
+
+    @Autowired
+    private ReservationOutboxRepository outboxRepository;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    private UUID eventId;
+
+    @BeforeEach
+    void setUp() {
+        eventId = UUID.randomUUID();
+        var keys = redisTemplate.keys("*");
+        if (keys != null && !keys.isEmpty()) {
+            redisTemplate.delete(keys);
+        }
+    }
+
+    @Test
+    @DisplayName("예매 후처리는 outbox를 거쳐 잔여 좌석 감소로 반영된다")
+    void reserve_sideEffectsAppliedThroughOutbox() {
+        UUID userId = UUID.randomUUID();
+        Seat seat = seatRepository.save(new Seat(eventId, "A1"));
+        redisTemplate.opsForValue().set(seatCountKey(), "10");
+        queueService.enter(eventId, userId);
+        queueService.acquireToken(eventId, userId);
+
+        reservationService.reserve(eventId, seat.getId(), userId);
+
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> {
+            assertThat(redisTemplate.opsForValue().get(seatCountKey())).isEqualTo("9");
+            assertThat(outboxRepository.findAll()).noneMatch(outbox -> outbox.getEventId().equals(eventId));
+        });
+    }
+
+    @Test
+    @DisplayName("같은 outbox 메시지가 두 번 발행돼도 잔여 좌석은 한 번만 감소한다")
+    void duplicateMessage_decrementsOnce() {
+        redisTemplate.opsForValue().set(seatCountKey(), "10");
+        Map<String, String> fields = Map.of(
+                ReservationStreamFields.TYPE, ReservationStreamFields.RESERVED,
+                ReservationStreamFields.OUTBOX_ID, "-1",
+                ReservationStreamFields.EVENT_ID, eventId.toString(),
+                ReservationStreamFields.USER_ID, UUID.randomUUID().toString(),
+                ReservationStreamFields.SEAT_IDS, UUID.randomUUID() + "," + UUID.randomUUID(),
+                ReservationStreamFields.CREATED_AT, "2026-01-01T00:00"
+        );
+
+        redisTemplate.opsForStream().add(StreamRecords.string(fields).withStreamKey(ReservationOutboxRelay.STREAM_KEY));
+        RecordId last = redisTemplate.opsForStream()
+                .add(StreamRecords.string(fields).withStreamKey(ReservationOutboxRelay.STREAM_KEY));
+
+        // 두 메시지 모두 처리(ack)될 때까지 대기
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> {
+            XInfoGroup group = redisTemplate.opsForStream().groups(ReservationOutboxRelay.STREAM_KEY).stream()
+                    .filter(info -> ReservationEventConsumer.GROUP.equals(info.groupName()))
+                    .findFirst()
+                    .orElseThrow();
+            assertThat(group.lastDeliveredId()).isEqualTo(last.getValue());
+            assertThat(group.pendingCount()).isZero();
+        });
+
+        assertThat(redisTemplate.opsForValue().get(seatCountKey())).isEqualTo("8");
+    }
+
+    private String seatCountKey() {
+        return "seat:count:" + eventId;
+    }
+}
@@ -0,0 +1,92 @@
+package com.ticketing.reservation.application.trace;
+
+import com.ticketing.IntegrationTestBase;
+import com.ticketing.config.TracingProperties;
+import com.ticketing.queue.application.QueueService;
+import com.ticketing.reservation.application.ReservationService;
+import com.ticketing.seat.domain.Seat;
+import com.ticketing.seat.domain.repository.SeatRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SlowReservationSamplerTest extends IntegrationTestBase {
+
+    @Autowired
+    private ReservationService reservationService;
+
+    @Autowired
+    private QueueService queueService;
+
+    @Autowired
+    private SeatRepository seatRepository;
+
+    @Autowired
+    private SlowReservationSampler sampler;
+
+    @Autowired
+    private TracingProperties properties;
+
+    private UUID eventId;
+    private int originalTopK;
+
+    @BeforeEach
+    void setUp() {
+        eventId = UUID.randomUUID();
+        // 다른 테스트의 요청에 밀려나지 않도록 보관 건수를 늘림
+        originalTopK = properties.getSlowTopK();
+        properties.setSlowTopK(100_000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        properties.setSlowTopK(originalTopK);
+    }
+
+    @Test
+    @DisplayName("예매 요청은 단계별 시간과 함께 기록된다")
+    void reserve_recordsStageBreakdown() {
+        UUID userId = UUID.randomUUID();
+        Seat seat = seatRepository.save(new Seat(eventId, "A1"));
+        queueService.enter(eventId, userId);
+        queueService.acquireToken(eventId, userId);
+
+        reservationService.reserve(eventId, seat.getId(), userId);
+
+        SlowReservation recorded = recordedFor(eventId);
+        assertThat(recorded.outcome()).isEqualTo("success");
+        assertThat(recorded.stagesMs()).containsKeys(
+                "token", "lock", "select", "connection", "update", "insert", "outbox", "commit");
+        assertThat(recorded.totalMs()).isGreaterThanOrEqualTo(recorded.stagesMs().get("lock"));
+        // 커넥션 대기는 그 커넥션을 연 단계에서 빠지므로 합이 전체 시간을 넘지 않음
+        long stageSum = recorded.stagesMs().values().stream().mapToLong(Long::longValue).sum();
+        assertThat(stageSum).isLessThanOrEqualTo(recorded.totalMs());
+    }
+
+    @Test
+    @DisplayName("실패한 예매 요청도 예외 종류와 함께 기록된다")
+    void reserve_failure_recordsOutcome() {
+        Seat seat = seatRepository.save(new Seat(eventId, "A1"));
+
+        assertThatThrownBy(() -> reservationService.reserve(eventId, seat.getId(), UUID.randomUUID()))
+                .isInstanceOf(IllegalStateException.class);
+
+        SlowReservation recorded = recordedFor(eventId);
+        assertThat(recorded.outcome()).isEqualTo("IllegalStateException");
+        assertThat(recorded.stagesMs()).containsOnlyKeys("token");
+    }
+
+    private SlowReservation recordedFor(UUID eventId) {
+        return sampler.slowest().stream()
+                .filter(entry -> eventId.toString().equals(entry.eventId()))
+                .findFirst()
+                .orElseThrow();
+    }
+}
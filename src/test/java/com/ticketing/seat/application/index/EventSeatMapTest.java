@@ -0,0 +1,86 @@
+package com.ticketing.seat.application.index;
+
+import com.ticketing.seat.domain.Seat;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EventSeatMapTest {
+
+    private final Map<UUID, String> seatNumbers = new HashMap<>();
+
+    @Test
+    @DisplayName("앞 열의 중앙에 가장 가까운 연속 블록을 배정한다")
+    void hold_picksFrontRowCenter() {
+        EventSeatMap seatMap = new EventSeatMap(seats("A", 10, "B", 10));
+
+        assertThat(numbers(seatMap.hold(2, 1, 0))).containsExactly("A5", "A6");
+        assertThat(numbers(seatMap.hold(2, 1, 0))).containsExactly("A3", "A4");
+        assertThat(numbers(seatMap.hold(2, 1, 0))).containsExactly("A7", "A8");
+    }
+
+    @Test
+    @DisplayName("앞 열에 연속 블록이 없으면 다음 열로 넘어간다")
+    void hold_fallsBackToNextRow() {
+        EventSeatMap seatMap = new EventSeatMap(seats("A", 3, "B", 5));
+
+        assertThat(numbers(seatMap.hold(2, 1, 0))).containsExactly("A1", "A2");
+        assertThat(numbers(seatMap.hold(2, 1, 0))).containsExactly("B2", "B3");
+        assertThat(seatMap.available()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("seed에 따라 상위 후보 중 서로 겹치지 않는 블록을 배정한다")
+    void hold_spreadsAcrossCandidates() {
+        List<Seat> seats = seats("A", 10);
+
+        assertThat(numbers(new EventSeatMap(seats).hold(2, 3, 0))).containsExactly("A5", "A6");
+        assertThat(numbers(new EventSeatMap(seats).hold(2, 3, 1))).containsExactly("A3", "A4");
+        assertThat(numbers(new EventSeatMap(seats).hold(2, 3, 2))).containsExactly("A7", "A8");
+    }
+
+    @Test
+    @DisplayName("남은 연속 블록이 없으면 빈 목록, 반환하면 다시 배정된다")
+    void hold_releaseAndMarkReserved() {
+        EventSeatMap seatMap = new EventSeatMap(seats("A", 4));
+
+        List<UUID> first = seatMap.hold(4, 1, 0);
+        assertThat(seatMap.hold(1, 1, 0)).isEmpty();
+
+        seatMap.release(first);
+        assertThat(seatMap.available()).isEqualTo(4);
+
+        seatMap.markReserved(first.subList(1, 2));  // A2 확정
+        assertThat(numbers(seatMap.hold(2, 1, 0))).containsExactly("A3", "A4");
+        assertThat(seatMap.hold(2, 1, 0)).isEmpty();
+    }
+
+    private List<Seat> seats(Object... rowAndCounts) {
+        List<Seat> seats = new ArrayList<>();
+        UUID eventId = UUID.randomUUID();
+        for (int i = 0; i < rowAndCounts.length; i += 2) {
+            String row = (String) rowAndCounts[i];
+            int count = (int) rowAndCounts[i + 1];
+            for (int number = 1; number <= count; number++) {
+                Seat seat = new Seat(eventId, row + number);
+                UUID id = UUID.randomUUID();
+                ReflectionTestUtils.setField(seat, "id", id);
+                seatNumbers.put(id, seat.getSeatNumber());
+                seats.add(seat);
+            }
+        }
+        return seats;
+    }
+
+    private List<String> numbers(List<UUID> seatIds) {
+        return seatIds.stream().map(seatNumbers::get).toList();
+    }
+}